@@ -0,0 +1,168 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type.benchmarks;
+
+import java.lang.reflect.Type;
+
+import java.util.concurrent.TimeUnit;
+
+import org.microbean.type.JavaType;
+
+import org.microbean.type.Type.CdiSemantics;
+import org.microbean.type.Type.CovariantSemantics;
+import org.microbean.type.Type.InvariantSemantics;
+import org.microbean.type.Type.Semantics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link Semantics#assignable(Type, Type)} and {@link
+ * Semantics#assignable(org.microbean.type.Type,
+ * org.microbean.type.Type)} for several {@link Semantics} and several
+ * kinds of receiver and payload types.
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class AssignabilityBenchmark {
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  @Param({ "covariant", "invariant", "cdi" })
+  public String semanticsName;
+
+  @Param({ "class", "parameterized", "wildcard", "typeVariable", "array" })
+  public String kind;
+
+  private Semantics semantics;
+
+  private Type receiverType;
+
+  private Type payloadType;
+
+  private JavaType receiverJavaType;
+
+  private JavaType payloadJavaType;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  /**
+   * Creates a new {@link AssignabilityBenchmark}.
+   */
+  public AssignabilityBenchmark() {
+    super();
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Sets up the receiver and payload types for this benchmark.
+   */
+  @Setup
+  public void setup() {
+    switch (this.semanticsName) {
+    case "covariant":
+      this.semantics = CovariantSemantics.INSTANCE;
+      break;
+    case "invariant":
+      this.semantics = InvariantSemantics.INSTANCE;
+      break;
+    case "cdi":
+      this.semantics = CdiSemantics.INSTANCE;
+      break;
+    default:
+      throw new IllegalStateException("semanticsName: " + this.semanticsName);
+    }
+    switch (this.kind) {
+    case "class":
+      this.receiverType = Number.class;
+      this.payloadType = Integer.class;
+      break;
+    case "parameterized":
+      this.receiverType = Types.COMPARABLE_OF_INTEGER;
+      this.payloadType = Integer.class;
+      break;
+    case "wildcard":
+      this.receiverType = Types.LIST_OF_EXTENDS_NUMBER;
+      this.payloadType = Types.ARRAY_LIST_OF_INTEGER;
+      break;
+    case "typeVariable":
+      this.receiverType = Number.class;
+      this.payloadType = Types.TYPE_VARIABLE;
+      break;
+    case "array":
+      this.receiverType = Number[].class;
+      this.payloadType = Integer[].class;
+      break;
+    default:
+      throw new IllegalStateException("kind: " + this.kind);
+    }
+    this.receiverJavaType = JavaType.of(this.receiverType);
+    this.payloadJavaType = JavaType.of(this.payloadType);
+  }
+
+  /**
+   * Benchmarks {@link Semantics#assignable(Type, Type)}, which wraps
+   * its arguments in new {@link JavaType}s on every invocation.
+   *
+   * @return the result of the assignability check
+   */
+  @Benchmark
+  public boolean assignableReflectiveTypes() {
+    return this.semantics.assignable(this.receiverType, this.payloadType);
+  }
+
+  /**
+   * Benchmarks {@link Semantics#assignable(org.microbean.type.Type,
+   * org.microbean.type.Type)} with preconstructed {@link JavaType}s.
+   *
+   * @return the result of the assignability check
+   */
+  @Benchmark
+  public boolean assignableJavaTypes() {
+    return this.semantics.assignable(this.receiverJavaType, this.payloadJavaType);
+  }
+
+}
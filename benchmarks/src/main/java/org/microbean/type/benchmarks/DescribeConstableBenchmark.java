@@ -0,0 +1,117 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type.benchmarks;
+
+import java.lang.constant.ConstantDesc;
+
+import java.lang.reflect.Type;
+
+import java.util.Optional;
+
+import java.util.concurrent.TimeUnit;
+
+import org.microbean.type.JavaType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link JavaType#describeConstable()}.
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class DescribeConstableBenchmark {
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  @Param({ "class", "parameterized", "wildcard" })
+  public String kind;
+
+  private JavaType javaType;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  /**
+   * Creates a new {@link DescribeConstableBenchmark}.
+   */
+  public DescribeConstableBenchmark() {
+    super();
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Sets up the {@link JavaType} to describe.
+   */
+  @Setup
+  public void setup() {
+    final Type type;
+    switch (this.kind) {
+    case "class":
+      type = String.class;
+      break;
+    case "parameterized":
+      type = Types.MAP_OF_STRING_TO_LIST_OF_STRING;
+      break;
+    case "wildcard":
+      type = Types.LIST_OF_EXTENDS_NUMBER;
+      break;
+    default:
+      throw new IllegalStateException("kind: " + this.kind);
+    }
+    this.javaType = JavaType.of(type);
+  }
+
+  /**
+   * Benchmarks {@link JavaType#describeConstable()}.
+   *
+   * @return the nominal descriptor
+   */
+  @Benchmark
+  public Optional<? extends ConstantDesc> describeConstable() {
+    return this.javaType.describeConstable();
+  }
+
+}
@@ -0,0 +1,162 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type.benchmarks;
+
+import java.lang.reflect.Type;
+
+import java.util.concurrent.TimeUnit;
+
+import org.microbean.type.DefaultParameterizedType;
+import org.microbean.type.JavaType;
+import org.microbean.type.JavaTypes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link org.microbean.type.Type#equals(org.microbean.type.Type,
+ * org.microbean.type.Type)}, {@link
+ * org.microbean.type.Type#hashCode(org.microbean.type.Type)}, {@link
+ * JavaTypes#equals(Type, Type)} and {@link JavaTypes#hashCode(Type)}
+ * on structurally equal but distinct types.
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class EqualityBenchmark {
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  @Param({ "class", "parameterized", "nested" })
+  public String kind;
+
+  private Type t0;
+
+  private Type t1;
+
+  private JavaType j0;
+
+  private JavaType j1;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  /**
+   * Creates a new {@link EqualityBenchmark}.
+   */
+  public EqualityBenchmark() {
+    super();
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Sets up the types to compare.
+   */
+  @Setup
+  public void setup() {
+    switch (this.kind) {
+    case "class":
+      this.t0 = String.class;
+      this.t1 = String.class;
+      break;
+    case "parameterized":
+      // A JDK ParameterizedType and a library ParameterizedType.
+      this.t0 = Types.LIST_OF_STRING;
+      this.t1 = new DefaultParameterizedType(null, java.util.List.class, String.class);
+      break;
+    case "nested":
+      this.t0 = Types.MAP_OF_STRING_TO_LIST_OF_STRING;
+      this.t1 = new JavaType.Token<java.util.Map<String, java.util.List<String>>>() {}.type();
+      break;
+    default:
+      throw new IllegalStateException("kind: " + this.kind);
+    }
+    this.j0 = JavaType.of(this.t0);
+    this.j1 = JavaType.of(this.t1);
+  }
+
+  /**
+   * Benchmarks {@link JavaTypes#equals(Type, Type)}.
+   *
+   * @return the result of the comparison
+   */
+  @Benchmark
+  public boolean javaTypesEquals() {
+    return JavaTypes.equals(this.t0, this.t1);
+  }
+
+  /**
+   * Benchmarks {@link JavaTypes#hashCode(Type)}.
+   *
+   * @return the hashcode
+   */
+  @Benchmark
+  public int javaTypesHashCode() {
+    return JavaTypes.hashCode(this.t0);
+  }
+
+  /**
+   * Benchmarks {@link
+   * org.microbean.type.Type#equals(org.microbean.type.Type,
+   * org.microbean.type.Type)}.
+   *
+   * @return the result of the comparison
+   */
+  @Benchmark
+  public boolean typeEquals() {
+    return org.microbean.type.Type.equals(this.j0, this.j1);
+  }
+
+  /**
+   * Benchmarks {@link
+   * org.microbean.type.Type#hashCode(org.microbean.type.Type)}.
+   *
+   * @return the hashcode
+   */
+  @Benchmark
+  public int typeHashCode() {
+    return org.microbean.type.Type.hashCode(this.j0);
+  }
+
+}
@@ -0,0 +1,170 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type.benchmarks;
+
+import java.lang.reflect.Type;
+
+import java.util.concurrent.TimeUnit;
+
+import org.microbean.type.JavaTypes;
+import org.microbean.type.JavaTypeSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link JavaTypeSet} construction, {@link
+ * JavaTypeSet#contains(Object)} and {@link
+ * JavaTypeSet#mostSpecializedTypes(java.util.function.Predicate)}.
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Deprecated // JavaTypeSet is deprecated
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class JavaTypeSetBenchmark {
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  @Param({ "integer", "deep", "wide", "concurrentHashMap" })
+  public String hierarchy;
+
+  private Type type;
+
+  private JavaTypeSet set;
+
+  private Type present;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  /**
+   * Creates a new {@link JavaTypeSetBenchmark}.
+   */
+  public JavaTypeSetBenchmark() {
+    super();
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Sets up the {@link JavaTypeSet} under test.
+   */
+  @Setup
+  public void setup() {
+    switch (this.hierarchy) {
+    case "integer":
+      this.type = Integer.class;
+      break;
+    case "deep":
+      this.type = Types.DEEP;
+      break;
+    case "wide":
+      this.type = Types.WIDE;
+      break;
+    case "concurrentHashMap":
+      this.type = Types.CONCURRENT_HASH_MAP_OF_STRING_TO_LIST_OF_STRING;
+      break;
+    default:
+      throw new IllegalStateException("hierarchy: " + this.hierarchy);
+    }
+    this.set = JavaTypeSet.ofSupertypes(this.type);
+    // The last element is the least likely to be found by a linear
+    // scan.
+    this.present = this.set.stream().reduce((a, b) -> b).orElseThrow();
+  }
+
+  /**
+   * Benchmarks {@link JavaTypeSet#ofSupertypes(Type)}.
+   *
+   * @return a new {@link JavaTypeSet}
+   */
+  @Benchmark
+  public JavaTypeSet construct() {
+    return JavaTypeSet.ofSupertypes(this.type);
+  }
+
+  /**
+   * Benchmarks {@link JavaTypeSet#contains(Object)} for a present
+   * element.
+   *
+   * @return {@code true}
+   */
+  @Benchmark
+  public boolean containsPresent() {
+    return this.set.contains(this.present);
+  }
+
+  /**
+   * Benchmarks {@link JavaTypeSet#contains(Object)} for an absent
+   * element.
+   *
+   * @return {@code false}
+   */
+  @Benchmark
+  public boolean containsAbsent() {
+    return this.set.contains(Thread.class);
+  }
+
+  /**
+   * Benchmarks {@link
+   * JavaTypeSet#mostSpecializedTypes(java.util.function.Predicate)}
+   * selecting interface types.
+   *
+   * @return the most specialized interface types
+   */
+  @Benchmark
+  public JavaTypeSet mostSpecializedInterfaceTypes() {
+    return this.set.mostSpecializedTypes(t -> JavaTypes.erase(t).isInterface());
+  }
+
+  /**
+   * Benchmarks {@link JavaTypeSet#mostSpecializedNonInterfaceType()}.
+   *
+   * @return the most specialized non-interface type
+   */
+  @Benchmark
+  public Type mostSpecializedNonInterfaceType() {
+    return this.set.mostSpecializedNonInterfaceType();
+  }
+
+}
@@ -0,0 +1,173 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type.benchmarks;
+
+import java.lang.reflect.Type;
+
+import java.util.Collection;
+import java.util.List;
+
+import java.util.concurrent.TimeUnit;
+
+import org.microbean.type.JavaType;
+import org.microbean.type.JavaTypes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link org.microbean.type.Type#supertypes()}, {@link
+ * org.microbean.type.Type#supertypeStream()}, {@link
+ * JavaTypes#supertypes(Type)} and {@link JavaTypes#supertype(Type,
+ * Type)} on deep and wide hierarchies.
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class SupertypesBenchmark {
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  @Param({ "integer", "deep", "wide", "concurrentHashMap" })
+  public String hierarchy;
+
+  private Type type;
+
+  private JavaType cachedJavaType;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  /**
+   * Creates a new {@link SupertypesBenchmark}.
+   */
+  public SupertypesBenchmark() {
+    super();
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Sets up the type whose supertypes will be computed.
+   */
+  @Setup
+  public void setup() {
+    switch (this.hierarchy) {
+    case "integer":
+      this.type = Integer.class;
+      break;
+    case "deep":
+      this.type = Types.DEEP;
+      break;
+    case "wide":
+      this.type = Types.WIDE;
+      break;
+    case "concurrentHashMap":
+      this.type = Types.CONCURRENT_HASH_MAP_OF_STRING_TO_LIST_OF_STRING;
+      break;
+    default:
+      throw new IllegalStateException("hierarchy: " + this.hierarchy);
+    }
+    this.cachedJavaType = JavaType.of(this.type);
+    this.cachedJavaType.supertypes();
+  }
+
+  /**
+   * Benchmarks {@link JavaTypes#supertypes(Type)}.
+   *
+   * @return the supertypes
+   */
+  @Benchmark
+  public Collection<Type> javaTypesSupertypes() {
+    return JavaTypes.supertypes(this.type);
+  }
+
+  /**
+   * Benchmarks {@link org.microbean.type.Type#supertypes()} on a new
+   * {@link JavaType}, i.e. on the computing path.
+   *
+   * @return the supertypes
+   */
+  @Benchmark
+  public List<?> uncachedTypeSupertypes() {
+    return JavaType.of(this.type).supertypes();
+  }
+
+  /**
+   * Benchmarks {@link org.microbean.type.Type#supertypes()} on a
+   * {@link JavaType} whose supertypes have already been computed.
+   *
+   * @return the supertypes
+   */
+  @Benchmark
+  public List<?> cachedTypeSupertypes() {
+    return this.cachedJavaType.supertypes();
+  }
+
+  /**
+   * Benchmarks a short-circuiting search of {@link
+   * org.microbean.type.Type#supertypeStream()} on a new {@link
+   * JavaType} for its first interface supertype, which computes the
+   * supertypes only as far as the first match.
+   *
+   * @return the first interface supertype
+   */
+  @Benchmark
+  public Object uncachedTypeSupertypeStreamFindFirstInterface() {
+    return JavaType.of(this.type).supertypeStream().filter(t -> t.interfaceType()).findFirst().orElse(null);
+  }
+
+  /**
+   * Benchmarks {@link JavaTypes#supertype(Type, Type)} with a
+   * parameterized {@link java.util.Map} type as the purported
+   * supertype, which is a hit for the {@code concurrentHashMap}
+   * hierarchy and a miss for all the others.
+   *
+   * @return whether the {@link java.util.Map} type is a supertype
+   */
+  @Benchmark
+  public boolean javaTypesSupertype() {
+    return JavaTypes.supertype(Types.MAP_OF_STRING_TO_LIST_OF_STRING, this.type);
+  }
+
+}
@@ -0,0 +1,154 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type.benchmarks;
+
+import java.io.Serializable;
+
+import java.lang.reflect.Type;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.microbean.type.JavaType;
+
+/**
+ * Reflective {@link Type}s shared by the benchmarks in this package.
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ */
+final class Types {
+
+
+  /*
+   * Static fields.
+   */
+
+
+  static final Type LIST_OF_STRING = new JavaType.Token<List<String>>() {}.type();
+
+  static final Type ARRAY_LIST_OF_STRING = new JavaType.Token<ArrayList<String>>() {}.type();
+
+  static final Type COMPARABLE_OF_INTEGER = new JavaType.Token<Comparable<Integer>>() {}.type();
+
+  static final Type LIST_OF_EXTENDS_NUMBER = new JavaType.Token<List<? extends Number>>() {}.type();
+
+  static final Type ARRAY_LIST_OF_INTEGER = new JavaType.Token<ArrayList<Integer>>() {}.type();
+
+  static final Type MAP_OF_STRING_TO_LIST_OF_STRING = new JavaType.Token<Map<String, List<String>>>() {}.type();
+
+  static final Type CONCURRENT_HASH_MAP_OF_STRING_TO_LIST_OF_STRING =
+    new JavaType.Token<ConcurrentHashMap<String, List<String>>>() {}.type();
+
+  // T extends Integer
+  static final Type TYPE_VARIABLE = typeVariable();
+
+  // A ten-level-deep parameterized class hierarchy.
+  static final Type DEEP = new JavaType.Token<D9<String>>() {}.type();
+
+  // A class with many parameterized superinterfaces.
+  static final Type WIDE = new JavaType.Token<Wide<String>>() {}.type();
+
+
+  /*
+   * Constructors.
+   */
+
+
+  private Types() {
+    super();
+  }
+
+
+  /*
+   * Static methods.
+   */
+
+
+  private static final <T extends Integer> Type typeVariable() {
+    try {
+      return Types.class.getDeclaredMethod("typeVariable").getTypeParameters()[0];
+    } catch (final NoSuchMethodException e) {
+      throw new AssertionError(e.getMessage(), e);
+    }
+  }
+
+
+  /*
+   * Inner and nested classes.
+   */
+
+
+  static class D0<T> implements Comparable<D0<T>> {
+    @Override // Comparable
+    public int compareTo(final D0<T> other) {
+      return 0;
+    }
+  }
+
+  static class D1<T> extends D0<List<T>> {}
+
+  static class D2<T> extends D1<Map<String, T>> {}
+
+  static class D3<T> extends D2<T> implements Serializable {
+    private static final long serialVersionUID = 1L;
+  }
+
+  static class D4<T> extends D3<List<T>> {
+    private static final long serialVersionUID = 1L;
+  }
+
+  static class D5<T> extends D4<T> implements RandomAccess {
+    private static final long serialVersionUID = 1L;
+  }
+
+  static class D6<T> extends D5<Map<T, T>> {
+    private static final long serialVersionUID = 1L;
+  }
+
+  static class D7<T> extends D6<T> {
+    private static final long serialVersionUID = 1L;
+  }
+
+  static class D8<T> extends D7<List<T>> {
+    private static final long serialVersionUID = 1L;
+  }
+
+  static class D9<T> extends D8<T> {
+    private static final long serialVersionUID = 1L;
+  }
+
+  @SuppressWarnings("serial")
+  static abstract class Wide<T>
+    implements Cloneable,
+               Comparable<Wide<T>>,
+               Comparator<T>,
+               Consumer<T>,
+               Iterable<T>,
+               Predicate<T>,
+               RandomAccess,
+               Serializable,
+               Supplier<Map<String, T>> {}
+
+}
@@ -0,0 +1,31 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+/**
+ * Provides <a href="https://github.com/openjdk/jmh"
+ * target="_parent">JMH</a> benchmarks for the hot paths of the
+ * {@code org.microbean.type} package.
+ *
+ * <p>Run them with the {@code gc} profiler so that allocation rates
+ * are reported alongside throughput:</p>
+ *
+ * <blockquote><pre>java -jar benchmarks/target/benchmarks.jar -prof gc</pre></blockquote>
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ */
+package org.microbean.type.benchmarks;
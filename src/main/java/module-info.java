@@ -23,6 +23,7 @@
  */
 module org.microbean.type {
 
+  requires jdk.jfr;
   requires org.microbean.constant;
   requires transitive org.microbean.development.annotation;
 
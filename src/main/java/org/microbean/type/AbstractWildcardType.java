@@ -152,6 +152,18 @@ class AbstractWildcardType implements WildcardType {
     return this.lowerBounds.clone();
   }
 
+  // Not cloned; do not modify.  Used by JavaTypes on its equality,
+  // hashing and description paths.
+  final Type[] upperBounds() {
+    return this.upperBounds;
+  }
+
+  // Not cloned; do not modify.  Used by JavaTypes on its equality,
+  // hashing and description paths.
+  final Type[] lowerBounds() {
+    return this.lowerBounds;
+  }
+
   @Override // Object
   public final int hashCode() {
     return this.hashCode;
@@ -0,0 +1,110 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A JDK Flight Recorder {@link Event} recording a {@linkplain
+ * Type.Semantics#assignable(Type, Type) assignability check} that
+ * took at least as long as the event's threshold (by default {@code
+ * 1 ms}).
+ *
+ * <p>The threshold may be changed in a recording's settings using the
+ * event name {@code org.microbean.type.Assignability}.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ *
+ * @see Type.Semantics#assignable(Type, Type)
+ */
+@Category({ "microBean", "Type" })
+@Description("A slow assignability check")
+@Label("Assignability")
+@Name("org.microbean.type.Assignability")
+@StackTrace(false)
+@Threshold("1 ms")
+final class AssignabilityEvent extends Event {
+
+
+  /*
+   * Static fields.
+   */
+
+
+  // Consulted and updated only while this event is enabled.
+  private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  @Label("Receiver Type")
+  String receiverType;
+
+  @Label("Payload Type")
+  String payloadType;
+
+  @Label("Semantics")
+  Class<?> semantics;
+
+  @Label("Assignable")
+  boolean assignable;
+
+  @Description("The number of enclosing assignability checks on the same thread")
+  @Label("Depth")
+  int depth;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  AssignabilityEvent() {
+    super();
+  }
+
+
+  /*
+   * Static methods.
+   */
+
+
+  // Returns the current recursion depth and increments it.
+  static final int enter() {
+    return DEPTH.get()[0]++;
+  }
+
+  static final void exit() {
+    DEPTH.get()[0]--;
+  }
+
+  static final String name(final Type<?> type) {
+    final Object object = type.object();
+    return object instanceof java.lang.reflect.Type t ? JavaTypes.toString(t) : String.valueOf(object);
+  }
+
+}
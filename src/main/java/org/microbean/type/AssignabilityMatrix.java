@@ -0,0 +1,222 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+import org.microbean.development.annotation.Experimental;
+
+/**
+ * An immutable bit matrix recording, for each of a number of receiver
+ * types (rows) and each of a number of payload types (columns),
+ * whether the payload type is assignable to the receiver type.
+ *
+ * <p>Instances of this class are produced by the {@link
+ * Type.Semantics#assignabilityMatrix(List, List, boolean)}
+ * method.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ *
+ * @see Type.Semantics#assignabilityMatrix(List, List, boolean)
+ */
+@Experimental
+public final class AssignabilityMatrix {
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  private final int rows;
+
+  private final int columns;
+
+  private final int wordsPerRow;
+
+  // Row-major; each row starts on a word boundary.
+  private final long[] words;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  AssignabilityMatrix(final int rows, final int columns, final long[] words) {
+    super();
+    this.rows = rows;
+    this.columns = columns;
+    this.wordsPerRow = wordsPerRow(columns);
+    if (words.length != rows * this.wordsPerRow) {
+      throw new IllegalArgumentException("words.length: " + words.length);
+    }
+    this.words = words;
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Returns the number of rows (receiver types) in this {@link
+   * AssignabilityMatrix}.
+   *
+   * @return the number of rows in this {@link AssignabilityMatrix}
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final int rows() {
+    return this.rows;
+  }
+
+  /**
+   * Returns the number of columns (payload types) in this {@link
+   * AssignabilityMatrix}.
+   *
+   * @return the number of columns in this {@link AssignabilityMatrix}
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final int columns() {
+    return this.columns;
+  }
+
+  /**
+   * Returns {@code true} if and only if the payload type at the
+   * supplied {@code column} is assignable to the receiver type at the
+   * supplied {@code row}.
+   *
+   * @param row the index of the receiver type
+   *
+   * @param column the index of the payload type
+   *
+   * @return {@code true} if and only if the payload type at the
+   * supplied {@code column} is assignable to the receiver type at the
+   * supplied {@code row}
+   *
+   * @exception IndexOutOfBoundsException if either index is out of
+   * bounds
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final boolean assignable(final int row, final int column) {
+    Objects.checkIndex(row, this.rows);
+    Objects.checkIndex(column, this.columns);
+    return (this.words[row * this.wordsPerRow + (column >>> 6)] & (1L << column)) != 0L;
+  }
+
+  /**
+   * Returns {@code true} if and only if at least one payload type is
+   * assignable to the receiver type at the supplied {@code row}.
+   *
+   * @param row the index of the receiver type
+   *
+   * @return {@code true} if and only if at least one payload type is
+   * assignable to the receiver type at the supplied {@code row}
+   *
+   * @exception IndexOutOfBoundsException if {@code row} is out of
+   * bounds
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final boolean anyAssignable(final int row) {
+    Objects.checkIndex(row, this.rows);
+    final int start = row * this.wordsPerRow;
+    for (int i = start; i < start + this.wordsPerRow; i++) {
+      if (this.words[i] != 0L) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns a new {@link BitSet} whose set bits are the indices of
+   * the payload types assignable to the receiver type at the supplied
+   * {@code row}.
+   *
+   * @param row the index of the receiver type
+   *
+   * @return a new {@link BitSet}; never {@code null}
+   *
+   * @exception IndexOutOfBoundsException if {@code row} is out of
+   * bounds
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic, but
+   * returns a new {@link BitSet} on each invocation.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final BitSet row(final int row) {
+    Objects.checkIndex(row, this.rows);
+    final int start = row * this.wordsPerRow;
+    return BitSet.valueOf(Arrays.copyOfRange(this.words, start, start + this.wordsPerRow));
+  }
+
+  @Override // Object
+  public final int hashCode() {
+    return 31 * (31 * this.rows + this.columns) + Arrays.hashCode(this.words);
+  }
+
+  @Override // Object
+  public final boolean equals(final Object other) {
+    if (other == this) {
+      return true;
+    } else if (other != null && other.getClass() == this.getClass()) {
+      final AssignabilityMatrix her = (AssignabilityMatrix)other;
+      return
+        this.rows == her.rows &&
+        this.columns == her.columns &&
+        Arrays.equals(this.words, her.words);
+    } else {
+      return false;
+    }
+  }
+
+
+  /*
+   * Static methods.
+   */
+
+
+  static final int wordsPerRow(final int columns) {
+    return (columns + 63) >>> 6;
+  }
+
+}
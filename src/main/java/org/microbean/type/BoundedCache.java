@@ -0,0 +1,198 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.util.Objects;
+import java.util.Queue;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.function.Function;
+
+// A small, bounded, thread-safe memoizing cache.  Once the cache
+// holds more than its maximum size, entries are evicted either in
+// insertion (first-in, first-out) order or, if access order was
+// requested, in an approximation of least-recently-used order
+// ("second chance", or CLOCK, eviction: an entry that has been read
+// since it was last considered for eviction is requeued once instead
+// of being evicted).  Values are computed outside of any lock, so
+// computations may themselves consult the cache (recursively or
+// otherwise); concurrent computations of the same key may race, and
+// the first value published wins.
+final class BoundedCache<K, V> {
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  private final int maximumSize;
+
+  private final boolean accessOrder;
+
+  private final ConcurrentMap<K, Node<V>> map;
+
+  private final Queue<K> evictionOrder;
+
+  private final LongAdder hits;
+
+  private final LongAdder misses;
+
+  private final LongAdder evictions;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  BoundedCache(final int maximumSize) {
+    this(maximumSize, false);
+  }
+
+  BoundedCache(final int maximumSize, final boolean accessOrder) {
+    super();
+    if (maximumSize < 0) {
+      throw new IllegalArgumentException("maximumSize: " + maximumSize);
+    }
+    this.maximumSize = maximumSize;
+    this.accessOrder = accessOrder;
+    this.map = new ConcurrentHashMap<>();
+    this.evictionOrder = new ConcurrentLinkedQueue<>();
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+    this.evictions = new LongAdder();
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  final V get(final K key) {
+    final Node<V> node = this.map.get(key);
+    if (node == null) {
+      this.misses.increment();
+      return null;
+    }
+    this.hits.increment();
+    return node.value();
+  }
+
+  final V computeIfAbsent(final K key, final Function<? super K, ? extends V> f) {
+    final Node<V> node = this.map.get(key);
+    if (node != null) {
+      this.hits.increment();
+      return node.value();
+    }
+    this.misses.increment();
+    return this.put(key, Objects.requireNonNull(f.apply(key), "f.apply(key)"));
+  }
+
+  final V put(final K key, final V value) {
+    if (this.maximumSize == 0) {
+      return value;
+    }
+    final Node<V> existing = this.map.putIfAbsent(key, new Node<>(value));
+    if (existing != null) {
+      return existing.value();
+    }
+    this.evictionOrder.add(key);
+    // Each key can be given at most one second chance per pass, so
+    // bound the work done here.
+    int budget = 2 * this.maximumSize + 1;
+    while (this.map.size() > this.maximumSize && budget-- > 0) {
+      final K eldest = this.evictionOrder.poll();
+      if (eldest == null) {
+        break;
+      }
+      final Node<V> eldestNode = this.map.get(eldest);
+      if (eldestNode == null) {
+        // Already removed (e.g. by clear()).
+        continue;
+      } else if (this.accessOrder && eldestNode.referenced) {
+        eldestNode.referenced = false;
+        this.evictionOrder.add(eldest);
+      } else if (this.map.remove(eldest, eldestNode)) {
+        this.evictions.increment();
+      }
+    }
+    return value;
+  }
+
+  final void clear() {
+    this.map.clear();
+    this.evictionOrder.clear();
+  }
+
+  final int size() {
+    return this.map.size();
+  }
+
+  final int maximumSize() {
+    return this.maximumSize;
+  }
+
+  final boolean accessOrder() {
+    return this.accessOrder;
+  }
+
+  final long hits() {
+    return this.hits.sum();
+  }
+
+  final long misses() {
+    return this.misses.sum();
+  }
+
+  final long evictions() {
+    return this.evictions.sum();
+  }
+
+
+  /*
+   * Inner and nested classes.
+   */
+
+
+  private static final class Node<V> {
+
+    private final V value;
+
+    private volatile boolean referenced;
+
+    private Node(final V value) {
+      super();
+      this.value = value;
+    }
+
+    private final V value() {
+      if (!this.referenced) {
+        this.referenced = true;
+      }
+      return this.value;
+    }
+
+  }
+
+}
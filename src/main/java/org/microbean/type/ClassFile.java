@@ -0,0 +1,283 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import java.util.List;
+
+// The handful of facts about a class file that are needed to model
+// its class or interface as a type without loading it: its name, its
+// access flags, its (erased) superclass and superinterfaces, its
+// Signature attribute, if any, and the classes that declare or
+// enclose it, as recorded by its InnerClasses and EnclosingMethod
+// attributes.  Everything else (fields, methods, other attributes) is
+// skipped without being decoded.  Names are internal names (JVMS
+// 4.2.1), e.g. java/util/Map$Entry.
+final class ClassFile {
+
+
+  /*
+   * Static fields.
+   */
+
+
+  private static final int MAGIC = 0xCAFEBABE;
+
+  private static final int ACC_INTERFACE = 0x0200;
+
+  private static final byte CONSTANT_UTF8 = 1;
+
+  private static final byte CONSTANT_CLASS = 7;
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  final String name;
+
+  final int access;
+
+  final String superName;
+
+  final List<String> interfaceNames;
+
+  final String signature;
+
+  // The class of which this class is a member, if any.
+  final String declaringName;
+
+  // The class that lexically encloses this class, if any; the same as
+  // declaringName for member classes.
+  final String enclosingName;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  private ClassFile(final String name,
+                    final int access,
+                    final String superName,
+                    final List<String> interfaceNames,
+                    final String signature,
+                    final String declaringName,
+                    final String enclosingName) {
+    super();
+    this.name = name;
+    this.access = access;
+    this.superName = superName;
+    this.interfaceNames = interfaceNames;
+    this.signature = signature;
+    this.declaringName = declaringName;
+    this.enclosingName = enclosingName;
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  final boolean isInterface() {
+    return (this.access & ACC_INTERFACE) != 0;
+  }
+
+  @Override // Object
+  public final String toString() {
+    return this.name;
+  }
+
+
+  /*
+   * Static methods.
+   */
+
+
+  // Parses the class file held between the supplied ByteBuffer's
+  // position and limit.  The ByteBuffer itself is not modified.
+  static final ClassFile parse(final ByteBuffer classFile) {
+    final ByteBuffer b = classFile.slice();
+    try {
+      if (b.getInt() != MAGIC) {
+        throw new IllegalArgumentException("Not a class file");
+      }
+      b.getInt(); // minor_version, major_version
+
+      // Record where each constant pool entry starts; decode only the
+      // ones that are asked for.
+      final int constantPoolCount = u2(b);
+      final int[] offsets = new int[constantPoolCount];
+      final byte[] tags = new byte[constantPoolCount];
+      for (int i = 1; i < constantPoolCount; i++) {
+        final byte tag = b.get();
+        tags[i] = tag;
+        offsets[i] = b.position();
+        switch (tag) {
+        case CONSTANT_UTF8:
+          skip(b, u2(b));
+          break;
+        case 3: // Integer
+        case 4: // Float
+        case 9: // Fieldref
+        case 10: // Methodref
+        case 11: // InterfaceMethodref
+        case 12: // NameAndType
+        case 17: // Dynamic
+        case 18: // InvokeDynamic
+          skip(b, 4);
+          break;
+        case 5: // Long
+        case 6: // Double
+          skip(b, 8);
+          i++; // takes up two slots
+          break;
+        case CONSTANT_CLASS:
+        case 8: // String
+        case 16: // MethodType
+        case 19: // Module
+        case 20: // Package
+          skip(b, 2);
+          break;
+        case 15: // MethodHandle
+          skip(b, 3);
+          break;
+        default:
+          throw new IllegalArgumentException("Unexpected constant pool tag: " + tag);
+        }
+      }
+
+      final int access = u2(b);
+      final String name = className(b, tags, offsets, u2(b));
+      final int superIndex = u2(b);
+      final String superName = superIndex == 0 ? null : className(b, tags, offsets, superIndex);
+      final int interfacesCount = u2(b);
+      final String[] interfaceNames = new String[interfacesCount];
+      for (int i = 0; i < interfacesCount; i++) {
+        interfaceNames[i] = className(b, tags, offsets, u2(b));
+      }
+
+      // Skip fields and methods.
+      for (int members = 0; members < 2; members++) {
+        final int count = u2(b);
+        for (int i = 0; i < count; i++) {
+          skip(b, 6); // access_flags, name_index, descriptor_index
+          skipAttributes(b);
+        }
+      }
+
+      String signature = null;
+      String declaringName = null;
+      String enclosingMethodClassName = null;
+      final int attributesCount = u2(b);
+      for (int i = 0; i < attributesCount; i++) {
+        final String attributeName = utf8(b, tags, offsets, u2(b));
+        final int length = b.getInt();
+        final int end = b.position() + length;
+        switch (attributeName) {
+        case "Signature":
+          signature = utf8(b, tags, offsets, u2(b));
+          break;
+        case "InnerClasses":
+          final int classes = u2(b);
+          for (int j = 0; j < classes; j++) {
+            final int inner = u2(b);
+            final int outer = u2(b);
+            skip(b, 4); // inner_name_index, inner_class_access_flags
+            if (inner != 0 && outer != 0 && name.equals(className(b, tags, offsets, inner))) {
+              declaringName = className(b, tags, offsets, outer);
+            }
+          }
+          break;
+        case "EnclosingMethod":
+          enclosingMethodClassName = className(b, tags, offsets, u2(b));
+          break;
+        default:
+          break;
+        }
+        b.position(end);
+      }
+
+      return
+        new ClassFile(name,
+                      access,
+                      superName,
+                      List.of(interfaceNames),
+                      signature,
+                      declaringName,
+                      declaringName == null ? enclosingMethodClassName : declaringName);
+    } catch (final BufferUnderflowException | IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Truncated or malformed class file", e);
+    }
+  }
+
+  private static final void skipAttributes(final ByteBuffer b) {
+    final int count = u2(b);
+    for (int i = 0; i < count; i++) {
+      skip(b, 2); // attribute_name_index
+      skip(b, b.getInt());
+    }
+  }
+
+  private static final void skip(final ByteBuffer b, final int length) {
+    b.position(b.position() + length);
+  }
+
+  private static final int u2(final ByteBuffer b) {
+    return b.getShort() & 0xFFFF;
+  }
+
+  private static final int u2(final ByteBuffer b, final int index) {
+    return b.getShort(index) & 0xFFFF;
+  }
+
+  private static final String className(final ByteBuffer b, final byte[] tags, final int[] offsets, final int index) {
+    if (tags[index] != CONSTANT_CLASS) {
+      throw new IllegalArgumentException("Not a CONSTANT_Class_info: " + index);
+    }
+    return utf8(b, tags, offsets, u2(b, offsets[index]));
+  }
+
+  // Decodes the modified UTF-8 (JVMS 4.4.7) CONSTANT_Utf8_info at the
+  // supplied constant pool index.
+  private static final String utf8(final ByteBuffer b, final byte[] tags, final int[] offsets, final int index) {
+    if (tags[index] != CONSTANT_UTF8) {
+      throw new IllegalArgumentException("Not a CONSTANT_Utf8_info: " + index);
+    }
+    final int start = offsets[index] + 2;
+    final int end = start + u2(b, offsets[index]);
+    final char[] chars = new char[end - start];
+    int length = 0;
+    for (int i = start; i < end; i++) {
+      final int x = b.get(i) & 0xFF;
+      if (x < 0x80) {
+        chars[length++] = (char)x;
+      } else if ((x & 0xE0) == 0xC0) {
+        chars[length++] = (char)(((x & 0x1F) << 6) | (b.get(++i) & 0x3F));
+      } else {
+        final int y = b.get(++i) & 0x3F;
+        chars[length++] = (char)(((x & 0x0F) << 12) | (y << 6) | (b.get(++i) & 0x3F));
+      }
+    }
+    return new String(chars, 0, length);
+  }
+
+}
@@ -0,0 +1,961 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import java.net.URI;
+
+import java.nio.ByteBuffer;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import java.util.function.Function;
+
+import java.util.stream.Stream;
+
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.microbean.development.annotation.Experimental;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * A source of class files, consisting of the run-time image of the
+ * current Java platform followed by any number of directories and
+ * jar files, that produces {@link SignatureType}s modeling the
+ * classes and interfaces they describe <strong>without loading
+ * them</strong>.
+ *
+ * <p>Class files are located as a class loader delegating first to
+ * the platform would locate them: in the run-time image first, and
+ * then in each directory or jar file in the order in which it was
+ * supplied.  Class files in directories are read through
+ * memory-mapped I/O.  Each class file is read and parsed at most
+ * once, and only its {@code access_flags}, {@code this_class}, {@code
+ * super_class} and {@code interfaces} items and its {@code
+ * Signature}, {@code InnerClasses} and {@code EnclosingMethod}
+ * attributes are decoded.</p>
+ *
+ * <p>A {@link ClassPath} caches what it reads and the {@link
+ * SignatureType}s it produces for as long as it is reachable, and
+ * keeps the jar files it reads from open until it is {@linkplain
+ * #close() closed}.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ *
+ * @see SignatureType
+ */
+@Experimental
+public final class ClassPath implements AutoCloseable {
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  private final List<Root> roots;
+
+  private final ConcurrentMap<String, Optional<ClassFile>> classFiles;
+
+  private final ConcurrentMap<String, ClassSignature> classSignatures;
+
+  private final ConcurrentMap<String, SignatureType> types;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  private ClassPath(final List<Root> roots) {
+    super();
+    this.roots = roots;
+    this.classFiles = new ConcurrentHashMap<>();
+    this.classSignatures = new ConcurrentHashMap<>();
+    this.types = new ConcurrentHashMap<>();
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Returns a {@link SignatureType} representing the class,
+   * interface, array type or primitive type with the supplied name.
+   *
+   * @param name a name as would be returned by {@link
+   * Class#getName()}, such as {@code java.util.Map$Entry}, {@code
+   * int} or {@code [Ljava.lang.String;}; must not be {@code null}
+   *
+   * @return a {@link SignatureType}; never {@code null}
+   *
+   * @exception NullPointerException if {@code name} is {@code null}
+   *
+   * @exception TypeNotPresentException if {@code name} names a class
+   * or interface whose class file could not be found
+   *
+   * @exception IllegalArgumentException if {@code name} is malformed
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final SignatureType type(final String name) {
+    if (name.startsWith("[")) {
+      return this.parse(name.replace('.', '/'));
+    }
+    final char descriptor = primitiveDescriptor(name);
+    if (descriptor != 0) {
+      return this.primitiveType(descriptor);
+    }
+    final String internalName = name.replace('.', '/');
+    this.classFile(internalName); // make sure it exists
+    return this.classType(internalName);
+  }
+
+  /**
+   * Returns a {@link SignatureType} whose {@linkplain
+   * SignatureType#object() modeled object} is the supplied signature.
+   *
+   * @param signature a reference type signature in the format
+   * described in the {@linkplain SignatureType documentation of the
+   * <code>SignatureType</code> class}, such as {@code
+   * Ljava/util/List<+Ljava/lang/Number;>;}; must not be {@code null}
+   *
+   * @return a {@link SignatureType}; never {@code null}
+   *
+   * @exception NullPointerException if {@code signature} is {@code
+   * null}
+   *
+   * @exception IllegalArgumentException if {@code signature} is
+   * malformed, or contains a type variable signature that does not
+   * name its declaring class
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final SignatureType parse(final String signature) {
+    final SignatureType t = this.types.get(signature);
+    if (t != null) {
+      return t;
+    }
+    final Parser parser = new Parser(this, signature, name -> null);
+    try {
+      final SignatureType returnValue = parser.typeArgument();
+      if (parser.i != signature.length()) {
+        throw new IllegalArgumentException("Malformed signature: " + signature);
+      }
+      return returnValue;
+    } catch (final IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Malformed signature: " + signature, e);
+    }
+  }
+
+  /**
+   * Returns {@code true} if and only if this {@link ClassPath} can
+   * find the class file for the class or interface with the supplied
+   * name.
+   *
+   * @param name a name as would be returned by {@link
+   * Class#getName()}; must not be {@code null}
+   *
+   * @return {@code true} if and only if this {@link ClassPath} can
+   * find the class file for the class or interface with the supplied
+   * name
+   *
+   * @exception NullPointerException if {@code name} is {@code null}
+   *
+   * @exception UncheckedIOException if the class file could not be
+   * read
+   *
+   * @exception IllegalArgumentException if the class file is
+   * malformed
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final boolean contains(final String name) {
+    return this.findClassFile(name.replace('.', '/')).isPresent();
+  }
+
+  /**
+   * Returns an immutable {@link List} of the names (as would be
+   * returned by {@link Class#getName()}) of all the classes and
+   * interfaces whose class files are found in the directories and jar
+   * files of this {@link ClassPath}, in the order in which the
+   * directories and jar files were supplied and then in
+   * lexicographic order.
+   *
+   * <p>Classes in the run-time image are not included, and neither
+   * are {@code module-info} and {@code package-info} class files or
+   * class files in a jar file's {@code META-INF} directory.</p>
+   *
+   * @return an immutable {@link List} of class names; never {@code
+   * null}
+   *
+   * @exception IOException if a directory or jar file could not be
+   * read
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final List<String> names() throws IOException {
+    final Set<String> names = new LinkedHashSet<>();
+    for (final Root root : this.roots) {
+      final Set<String> rootNames = new TreeSet<>();
+      root.names(rootNames);
+      names.addAll(rootNames);
+    }
+    return List.copyOf(names);
+  }
+
+  /**
+   * Closes any jar files this {@link ClassPath} has open.
+   *
+   * <p>{@link SignatureType}s already produced by this {@link
+   * ClassPath} remain usable to the extent that the class files they
+   * need have already been read.</p>
+   *
+   * @exception IOException if a jar file could not be closed
+   *
+   * @idempotency This method is idempotent.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  @Override // AutoCloseable
+  public final void close() throws IOException {
+    IOException ioException = null;
+    for (final Root root : this.roots) {
+      try {
+        root.close();
+      } catch (final IOException e) {
+        if (ioException == null) {
+          ioException = e;
+        } else {
+          ioException.addSuppressed(e);
+        }
+      }
+    }
+    if (ioException != null) {
+      throw ioException;
+    }
+  }
+
+  final ClassFile classFile(final String internalName) {
+    return this.findClassFile(internalName)
+      .orElseThrow(() -> new TypeNotPresentException(internalName.replace('/', '.'), null));
+  }
+
+  private final Optional<ClassFile> findClassFile(final String internalName) {
+    Optional<ClassFile> classFile = this.classFiles.get(internalName);
+    if (classFile == null) {
+      classFile = Optional.empty();
+      try {
+        for (final Root root : this.roots) {
+          final ByteBuffer bytes = root.read(internalName);
+          if (bytes != null) {
+            classFile = Optional.of(ClassFile.parse(bytes));
+            break;
+          }
+        }
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e.getMessage(), e);
+      }
+      final Optional<ClassFile> prior = this.classFiles.putIfAbsent(internalName, classFile);
+      if (prior != null) {
+        classFile = prior;
+      }
+    }
+    return classFile;
+  }
+
+  final ClassSignature classSignature(final String internalName) {
+    ClassSignature classSignature = this.classSignatures.get(internalName);
+    if (classSignature == null) {
+      // Not computeIfAbsent(): computing a ClassSignature may require
+      // the ClassSignatures of enclosing classes.
+      classSignature = this.computeClassSignature(this.classFile(internalName));
+      final ClassSignature prior = this.classSignatures.putIfAbsent(internalName, classSignature);
+      if (prior != null) {
+        classSignature = prior;
+      }
+    }
+    return classSignature;
+  }
+
+  private final ClassSignature computeClassSignature(final ClassFile cf) {
+    final String signature = cf.signature;
+    if (signature == null) {
+      final List<SignatureType> interfaces = new ArrayList<>(cf.interfaceNames.size());
+      for (final String interfaceName : cf.interfaceNames) {
+        interfaces.add(this.classType(interfaceName));
+      }
+      return
+        new ClassSignature(List.of(),
+                           List.of(),
+                           cf.superName == null ? null : this.classType(cf.superName),
+                           Collections.unmodifiableList(interfaces));
+    }
+    final List<String> typeParameterNames = typeParameterNames(signature);
+    final Parser parser = new Parser(this, signature, name -> {
+        if (typeParameterNames.contains(name)) {
+          return cf.name;
+        }
+        try {
+          for (String n = cf.enclosingName; n != null; n = this.classFile(n).enclosingName) {
+            if (this.classSignature(n).typeParameterNames.contains(name)) {
+              return n;
+            }
+          }
+        } catch (final TypeNotPresentException e) {
+          // Fall through.
+        }
+        // A type variable declared by an enclosing method or
+        // constructor; see the SignatureType class documentation.
+        return cf.name;
+      });
+    try {
+      return parser.classSignature();
+    } catch (final IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Malformed signature: " + signature, e);
+    }
+  }
+
+  final SignatureType primitiveType(final char descriptor) {
+    return this.intern(String.valueOf(descriptor), SignatureType.PRIMITIVE, String.valueOf(descriptor), null, null, List.of(), null);
+  }
+
+  final SignatureType classType(final String internalName) {
+    return this.intern("L" + internalName + ";", SignatureType.CLASS, internalName, null, null, List.of(), null);
+  }
+
+  final SignatureType parameterizedType(final SignatureType ownerType,
+                                        final String internalName,
+                                        final List<SignatureType> typeArguments) {
+    final StringBuilder sb = new StringBuilder();
+    if (ownerType == null) {
+      sb.append('L').append(internalName);
+    } else {
+      final String ownerSignature = ownerType.object();
+      sb.append(ownerSignature, 0, ownerSignature.length() - 1)
+        .append('.')
+        .append(internalName, ownerType.type().name().length() + 1, internalName.length());
+    }
+    sb.append('<');
+    for (final SignatureType typeArgument : typeArguments) {
+      sb.append(typeArgument.object());
+    }
+    sb.append(">;");
+    return this.intern(sb.toString(), SignatureType.PARAMETERIZED_TYPE, internalName, null, ownerType, List.copyOf(typeArguments), null);
+  }
+
+  final SignatureType arrayType(final SignatureType componentType) {
+    return this.intern("[" + componentType.object(), SignatureType.ARRAY, null, null, null, List.of(), componentType);
+  }
+
+  final SignatureType typeVariable(final String declaringName, final String name) {
+    return this.intern("T" + declaringName + "." + name + ";", SignatureType.TYPE_VARIABLE, name, declaringName, null, List.of(), null);
+  }
+
+  final SignatureType wildcard(final int sort, final SignatureType bound) {
+    switch (sort) {
+    case SignatureType.UNBOUNDED_WILDCARD:
+      return this.intern("*", sort, null, null, null, List.of(), null);
+    case SignatureType.UPPER_BOUNDED_WILDCARD:
+      return this.intern("+" + bound.object(), sort, null, null, null, List.of(), bound);
+    case SignatureType.LOWER_BOUNDED_WILDCARD:
+      return this.intern("-" + bound.object(), sort, null, null, null, List.of(), bound);
+    default:
+      throw new IllegalArgumentException("sort: " + sort);
+    }
+  }
+
+  private final SignatureType intern(final String signature,
+                                     final int sort,
+                                     final String name,
+                                     final String declaringName,
+                                     final SignatureType ownerType,
+                                     final List<SignatureType> typeArguments,
+                                     final SignatureType componentType) {
+    SignatureType t = this.types.get(signature);
+    if (t == null) {
+      t = new SignatureType(this, signature, sort, name, declaringName, ownerType, typeArguments, componentType);
+      final SignatureType prior = this.types.putIfAbsent(signature, t);
+      if (prior != null) {
+        t = prior;
+      }
+    }
+    return t;
+  }
+
+
+  /*
+   * Static methods.
+   */
+
+
+  /**
+   * Returns a new {@link ClassPath} that finds class files in the
+   * run-time image of the current Java platform and then in the
+   * supplied directories and jar files, in order.
+   *
+   * @param roots the directories and jar files; must not be {@code
+   * null}
+   *
+   * @return a new {@link ClassPath}; never {@code null}
+   *
+   * @exception NullPointerException if {@code roots} or any of its
+   * elements is {@code null}
+   *
+   * @exception IOException if a jar file could not be opened
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public static final ClassPath of(final Path... roots) throws IOException {
+    return of(List.of(roots));
+  }
+
+  /**
+   * Returns a new {@link ClassPath} that finds class files in the
+   * run-time image of the current Java platform and then in the
+   * supplied directories and jar files, in order.
+   *
+   * @param roots the directories and jar files; must not be {@code
+   * null}
+   *
+   * @return a new {@link ClassPath}; never {@code null}
+   *
+   * @exception NullPointerException if {@code roots} or any of its
+   * elements is {@code null}
+   *
+   * @exception IOException if a jar file could not be opened
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public static final ClassPath of(final List<? extends Path> roots) throws IOException {
+    final List<Root> list = new ArrayList<>(roots.size() + 1);
+    list.add(new RuntimeImageRoot());
+    try {
+      for (final Path root : roots) {
+        list.add(Files.isDirectory(root) ? new DirectoryRoot(root) : new JarRoot(root));
+      }
+    } catch (final IOException | RuntimeException e) {
+      for (final Root root : list) {
+        try {
+          root.close();
+        } catch (final IOException suppressed) {
+          e.addSuppressed(suppressed);
+        }
+      }
+      throw e;
+    }
+    return new ClassPath(List.copyOf(list));
+  }
+
+  // Returns the names of the type parameters declared by the supplied
+  // class signature, without parsing their bounds.
+  private static final List<String> typeParameterNames(final String signature) {
+    if (signature.isEmpty() || signature.charAt(0) != '<') {
+      return List.of();
+    }
+    final List<String> names = new ArrayList<>(3);
+    int i = 1;
+    while (signature.charAt(i) != '>') {
+      final int colon = signature.indexOf(':', i);
+      names.add(signature.substring(i, colon));
+      i = colon;
+      while (signature.charAt(i) == ':') {
+        i++;
+        if (signature.charAt(i) != ':') {
+          i = skipReferenceTypeSignature(signature, i);
+        }
+      }
+    }
+    return Collections.unmodifiableList(names);
+  }
+
+  private static final int skipReferenceTypeSignature(final String signature, int i) {
+    switch (signature.charAt(i)) {
+    case '[':
+      i++;
+      return primitiveName(signature.charAt(i)) == null ? skipReferenceTypeSignature(signature, i) : i + 1;
+    case 'T':
+      return signature.indexOf(';', i) + 1;
+    case 'L':
+      int depth = 0;
+      while (true) {
+        final char c = signature.charAt(i++);
+        if (c == '<') {
+          depth++;
+        } else if (c == '>') {
+          depth--;
+        } else if (c == ';' && depth == 0) {
+          return i;
+        }
+      }
+    default:
+      throw new IllegalArgumentException("Malformed signature: " + signature);
+    }
+  }
+
+  private static final String primitiveName(final char descriptor) {
+    return SignatureType.primitiveName(descriptor);
+  }
+
+  private static final char primitiveDescriptor(final String name) {
+    switch (name) {
+    case "byte": return 'B';
+    case "char": return 'C';
+    case "double": return 'D';
+    case "float": return 'F';
+    case "int": return 'I';
+    case "long": return 'J';
+    case "short": return 'S';
+    case "void": return 'V';
+    case "boolean": return 'Z';
+    default: return 0;
+    }
+  }
+
+  private static final boolean skip(final String name) {
+    return name.endsWith("module-info") || name.endsWith("package-info");
+  }
+
+
+  /*
+   * Inner and nested classes.
+   */
+
+
+  // The generic structure of a class or interface: the names and
+  // bounds of its type parameters, and its direct superclass and
+  // superinterface types.  For a class file without a Signature
+  // attribute, the latter are simply its (non-generic) superclass and
+  // interfaces.
+  static final class ClassSignature {
+
+    final List<String> typeParameterNames;
+
+    final List<List<SignatureType>> typeParameterBounds;
+
+    final SignatureType superclass;
+
+    final List<SignatureType> interfaces;
+
+    private ClassSignature(final List<String> typeParameterNames,
+                           final List<List<SignatureType>> typeParameterBounds,
+                           final SignatureType superclass,
+                           final List<SignatureType> interfaces) {
+      super();
+      this.typeParameterNames = typeParameterNames;
+      this.typeParameterBounds = typeParameterBounds;
+      this.superclass = superclass;
+      this.interfaces = interfaces;
+    }
+
+    // Returns the bounds of the named type parameter, or null if
+    // there is no such type parameter.
+    final List<SignatureType> bounds(final String name) {
+      final int index = this.typeParameterNames.indexOf(name);
+      return index < 0 ? null : this.typeParameterBounds.get(index);
+    }
+
+  }
+
+  // A recursive descent parser for the signatures described in JVMS
+  // 4.7.9.1, extended to accept qualified type variable signatures
+  // (see the SignatureType class documentation).
+  private static final class Parser {
+
+    private final ClassPath classPath;
+
+    private final String s;
+
+    // Given the name of an unqualified type variable, returns the
+    // internal name of the class that declares it, or null.
+    private final Function<? super String, ? extends String> declarations;
+
+    private int i;
+
+    private Parser(final ClassPath classPath,
+                   final String s,
+                   final Function<? super String, ? extends String> declarations) {
+      super();
+      this.classPath = classPath;
+      this.s = Objects.requireNonNull(s, "s");
+      this.declarations = declarations;
+    }
+
+    // ClassSignature:
+    //   [TypeParameters] SuperclassSignature {SuperinterfaceSignature}
+    private final ClassSignature classSignature() {
+      final List<String> names;
+      final List<List<SignatureType>> bounds;
+      if (this.s.charAt(this.i) == '<') {
+        this.i++;
+        names = new ArrayList<>(3);
+        bounds = new ArrayList<>(3);
+        while (this.s.charAt(this.i) != '>') {
+          final int colon = this.s.indexOf(':', this.i);
+          names.add(this.s.substring(this.i, colon));
+          this.i = colon;
+          final List<SignatureType> b = new ArrayList<>(2);
+          while (this.s.charAt(this.i) == ':') {
+            this.i++;
+            if (this.s.charAt(this.i) != ':') {
+              b.add(this.referenceType());
+            }
+          }
+          bounds.add(b.isEmpty() ? List.of(this.classPath.classType("java/lang/Object")) : List.copyOf(b));
+        }
+        this.i++;
+      } else {
+        names = List.of();
+        bounds = List.of();
+      }
+      final SignatureType superclass = this.classType();
+      final List<SignatureType> interfaces = new ArrayList<>(3);
+      while (this.i < this.s.length()) {
+        interfaces.add(this.classType());
+      }
+      return
+        new ClassSignature(List.copyOf(names),
+                           List.copyOf(bounds),
+                           superclass,
+                           Collections.unmodifiableList(interfaces));
+    }
+
+    // TypeArgument:
+    //   [WildcardIndicator] ReferenceTypeSignature
+    //   *
+    private final SignatureType typeArgument() {
+      switch (this.s.charAt(this.i)) {
+      case '*':
+        this.i++;
+        return this.classPath.wildcard(SignatureType.UNBOUNDED_WILDCARD, null);
+      case '+':
+        this.i++;
+        return this.classPath.wildcard(SignatureType.UPPER_BOUNDED_WILDCARD, this.referenceType());
+      case '-':
+        this.i++;
+        return this.classPath.wildcard(SignatureType.LOWER_BOUNDED_WILDCARD, this.referenceType());
+      default:
+        return this.javaType();
+      }
+    }
+
+    // JavaTypeSignature:
+    //   ReferenceTypeSignature
+    //   BaseType
+    private final SignatureType javaType() {
+      final char c = this.s.charAt(this.i);
+      if (primitiveName(c) != null) {
+        this.i++;
+        return this.classPath.primitiveType(c);
+      }
+      return this.referenceType();
+    }
+
+    // ReferenceTypeSignature:
+    //   ClassTypeSignature
+    //   TypeVariableSignature
+    //   ArrayTypeSignature
+    private final SignatureType referenceType() {
+      switch (this.s.charAt(this.i)) {
+      case 'L':
+        return this.classType();
+      case 'T':
+        return this.typeVariable();
+      case '[':
+        this.i++;
+        return this.classPath.arrayType(this.javaType());
+      default:
+        throw new IllegalArgumentException("Malformed signature: " + this.s);
+      }
+    }
+
+    // ClassTypeSignature:
+    //   L [PackageSpecifier] SimpleClassTypeSignature {ClassTypeSignatureSuffix} ;
+    private final SignatureType classType() {
+      if (this.s.charAt(this.i) != 'L') {
+        throw new IllegalArgumentException("Malformed signature: " + this.s);
+      }
+      this.i++;
+      String name = this.identifier();
+      SignatureType t = this.classType(null, name);
+      while (this.s.charAt(this.i) == '.') {
+        this.i++;
+        name = name + '$' + this.identifier();
+        t = this.classType(t.hasTypeArguments() ? t : null, name);
+      }
+      this.i++; // ;
+      return t;
+    }
+
+    private final SignatureType classType(final SignatureType ownerType, final String name) {
+      if (this.s.charAt(this.i) != '<') {
+        // A non-generic class nested in a parameterized type is
+        // modeled as the class itself.
+        return this.classPath.classType(name);
+      }
+      this.i++;
+      final List<SignatureType> typeArguments = new ArrayList<>(3);
+      while (this.s.charAt(this.i) != '>') {
+        typeArguments.add(this.typeArgument());
+      }
+      this.i++;
+      return this.classPath.parameterizedType(ownerType, name, typeArguments);
+    }
+
+    // TypeVariableSignature:
+    //   T Identifier ;
+    //
+    // ...or, as an extension, T InternalName . Identifier ;
+    private final SignatureType typeVariable() {
+      this.i++;
+      final int semicolon = this.s.indexOf(';', this.i);
+      final String identifier = this.s.substring(this.i, semicolon);
+      this.i = semicolon + 1;
+      final int dot = identifier.lastIndexOf('.');
+      if (dot >= 0) {
+        return this.classPath.typeVariable(identifier.substring(0, dot), identifier.substring(dot + 1));
+      }
+      final String declaringName = this.declarations.apply(identifier);
+      if (declaringName == null) {
+        throw new IllegalArgumentException("Unqualified type variable signature: " + this.s);
+      }
+      return this.classPath.typeVariable(declaringName, identifier);
+    }
+
+    private final String identifier() {
+      final int start = this.i;
+      while (true) {
+        final char c = this.s.charAt(this.i);
+        if (c == '<' || c == '.' || c == ';') {
+          break;
+        }
+        this.i++;
+      }
+      return this.s.substring(start, this.i);
+    }
+
+  }
+
+  private static abstract class Root implements Closeable {
+
+    private Root() {
+      super();
+    }
+
+    // Returns the bytes of the class file for the class with the
+    // supplied internal name, or null if there is no such class file
+    // in this Root.
+    abstract ByteBuffer read(final String internalName) throws IOException;
+
+    void names(final Collection<? super String> names) throws IOException {
+
+    }
+
+    @Override // Closeable
+    public void close() throws IOException {
+
+    }
+
+  }
+
+  // The run-time image, read through the jrt file system.  Class files
+  // are found by consulting the /packages directory to find the
+  // modules that might contain them.
+  private static final class RuntimeImageRoot extends Root {
+
+    private final FileSystem fileSystem;
+
+    private final ConcurrentMap<String, List<String>> modules;
+
+    private RuntimeImageRoot() {
+      super();
+      this.fileSystem = FileSystems.getFileSystem(URI.create("jrt:/"));
+      this.modules = new ConcurrentHashMap<>();
+    }
+
+    @Override // Root
+    final ByteBuffer read(final String internalName) throws IOException {
+      final int slash = internalName.lastIndexOf('/');
+      if (slash < 0) {
+        return null;
+      }
+      final String packageName = internalName.substring(0, slash).replace('/', '.');
+      final String path = internalName + ".class";
+      for (final String module : this.modules.computeIfAbsent(packageName, this::modules)) {
+        try {
+          return ByteBuffer.wrap(Files.readAllBytes(this.fileSystem.getPath("/modules", module, path)));
+        } catch (final NoSuchFileException e) {
+          // Try the next module.
+        }
+      }
+      return null;
+    }
+
+    private final List<String> modules(final String packageName) {
+      final Path p = this.fileSystem.getPath("/packages", packageName);
+      if (!Files.isDirectory(p)) {
+        return List.of();
+      }
+      try (final Stream<Path> s = Files.list(p)) {
+        return s.map(m -> m.getFileName().toString()).toList();
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e.getMessage(), e);
+      }
+    }
+
+  }
+
+  private static final class DirectoryRoot extends Root {
+
+    private final Path directory;
+
+    private DirectoryRoot(final Path directory) {
+      super();
+      this.directory = directory;
+    }
+
+    @Override // Root
+    final ByteBuffer read(final String internalName) throws IOException {
+      final Path p = this.directory.resolve(internalName + ".class");
+      if (!Files.isRegularFile(p)) {
+        return null;
+      }
+      try (final FileChannel channel = FileChannel.open(p, READ)) {
+        // The mapping remains valid after the channel is closed.
+        return channel.map(READ_ONLY, 0L, channel.size());
+      }
+    }
+
+    @Override // Root
+    final void names(final Collection<? super String> names) throws IOException {
+      try (final Stream<Path> s = Files.walk(this.directory)) {
+        final Iterable<Path> i = s::iterator;
+        for (final Path p : i) {
+          final String name = this.directory.relativize(p).toString();
+          if (name.endsWith(".class") && Files.isRegularFile(p)) {
+            final String className = name.substring(0, name.length() - ".class".length())
+              .replace(p.getFileSystem().getSeparator(), ".");
+            if (!skip(className)) {
+              names.add(className);
+            }
+          }
+        }
+      }
+    }
+
+  }
+
+  // A jar (or zip) file.  Entries are usually compressed, so they are
+  // read rather than mapped.
+  private static final class JarRoot extends Root {
+
+    private final ZipFile zipFile;
+
+    private JarRoot(final Path jarFile) throws IOException {
+      super();
+      this.zipFile = new ZipFile(jarFile.toFile());
+    }
+
+    @Override // Root
+    final ByteBuffer read(final String internalName) throws IOException {
+      final ZipEntry entry = this.zipFile.getEntry(internalName + ".class");
+      if (entry == null) {
+        return null;
+      }
+      try (final InputStream is = this.zipFile.getInputStream(entry)) {
+        return ByteBuffer.wrap(is.readAllBytes());
+      }
+    }
+
+    @Override // Root
+    final void names(final Collection<? super String> names) {
+      final Enumeration<? extends ZipEntry> entries = this.zipFile.entries();
+      while (entries.hasMoreElements()) {
+        final String name = entries.nextElement().getName();
+        if (name.endsWith(".class") && !name.startsWith("META-INF/")) {
+          final String className = name.substring(0, name.length() - ".class".length()).replace('/', '.');
+          if (!skip(className)) {
+            names.add(className);
+          }
+        }
+      }
+    }
+
+    @Override // Root
+    public final void close() throws IOException {
+      this.zipFile.close();
+    }
+
+  }
+
+}
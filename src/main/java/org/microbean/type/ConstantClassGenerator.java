@@ -0,0 +1,544 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.lang.constant.ClassDesc;
+import java.lang.constant.Constable;
+import java.lang.constant.ConstantDesc;
+import java.lang.constant.DirectMethodHandleDesc;
+import java.lang.constant.DynamicConstantDesc;
+import java.lang.constant.MethodHandleDesc;
+import java.lang.constant.MethodTypeDesc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.microbean.development.annotation.Experimental;
+
+import static java.lang.constant.ConstantDescs.BSM_PRIMITIVE_CLASS;
+import static java.lang.constant.ConstantDescs.CD_Class;
+import static java.lang.constant.ConstantDescs.CD_Double;
+import static java.lang.constant.ConstantDescs.CD_Float;
+import static java.lang.constant.ConstantDescs.CD_Integer;
+import static java.lang.constant.ConstantDescs.CD_Long;
+import static java.lang.constant.ConstantDescs.CD_MethodHandle;
+import static java.lang.constant.ConstantDescs.CD_MethodType;
+import static java.lang.constant.ConstantDescs.CD_String;
+import static java.lang.constant.ConstantDescs.CD_double;
+import static java.lang.constant.ConstantDescs.CD_float;
+import static java.lang.constant.ConstantDescs.CD_int;
+import static java.lang.constant.ConstantDescs.CD_long;
+
+/**
+ * A build-time generator of class files whose {@code public static}
+ * methods each load, via a single {@code ldc} instruction, a constant
+ * described by a {@link Constable}'s {@linkplain
+ * Constable#describeConstable() nominal descriptor}.
+ *
+ * <p>{@link JavaType}, {@link DefaultParameterizedType}, {@link
+ * DefaultGenericArrayType}, the wildcard types and so on describe
+ * themselves as {@link DynamicConstantDesc}s.  A class generated by
+ * this class turns each such description into a {@code
+ * CONSTANT_Dynamic} constant pool entry.  At run time each constant
+ * is resolved lazily, exactly once, by its bootstrap method, without
+ * any generic signature parsing, and is thereafter treated as a true
+ * constant by the JIT compiler.</p>
+ *
+ * <p>For example, given a {@link Map} associating the name {@code
+ * listOfString} with a {@link DefaultParameterizedType} representing
+ * {@code List<String>}, the generated class will have a method
+ * equivalent to:</p>
+ *
+ * <blockquote><pre>public static java.lang.reflect.ParameterizedType listOfString() {
+ *   return ldc(<em>condy</em>);
+ *}</pre></blockquote>
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ *
+ * @see #generate(String, Map)
+ */
+@Experimental
+public final class ConstantClassGenerator {
+
+
+  /*
+   * Static fields.
+   */
+
+
+  private static final int MAGIC = 0xCAFEBABE;
+
+  private static final int MAJOR_VERSION = 61; // Java 17
+
+  private static final int ACC_PUBLIC = 0x0001;
+
+  private static final int ACC_STATIC = 0x0008;
+
+  private static final int ACC_FINAL = 0x0010;
+
+  private static final int ACC_SUPER = 0x0020;
+
+  private static final int ACC_SYNTHETIC = 0x1000;
+
+  private static final int CONSTANT_Utf8 = 1;
+
+  private static final int CONSTANT_Integer = 3;
+
+  private static final int CONSTANT_Float = 4;
+
+  private static final int CONSTANT_Long = 5;
+
+  private static final int CONSTANT_Double = 6;
+
+  private static final int CONSTANT_Class = 7;
+
+  private static final int CONSTANT_String = 8;
+
+  private static final int CONSTANT_Fieldref = 9;
+
+  private static final int CONSTANT_Methodref = 10;
+
+  private static final int CONSTANT_InterfaceMethodref = 11;
+
+  private static final int CONSTANT_NameAndType = 12;
+
+  private static final int CONSTANT_MethodHandle = 15;
+
+  private static final int CONSTANT_MethodType = 16;
+
+  private static final int CONSTANT_Dynamic = 17;
+
+  private static final int LDC = 0x12;
+
+  private static final int LDC_W = 0x13;
+
+  private static final int LDC2_W = 0x14;
+
+  private static final int IRETURN = 0xAC;
+
+  private static final int LRETURN = 0xAD;
+
+  private static final int FRETURN = 0xAE;
+
+  private static final int DRETURN = 0xAF;
+
+  private static final int ARETURN = 0xB0;
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  // Serialized constant pool entries, without their indices.
+  private final ByteArrayOutputStream constantPoolBytes;
+
+  private final DataOutputStream constantPool;
+
+  // Deduplicates constant pool entries.
+  private final Map<List<Object>, Integer> entries;
+
+  private int constantPoolCount;
+
+  // Each element is a list of constant pool indices: the bootstrap
+  // method handle followed by its arguments.
+  private final List<List<Integer>> bootstrapMethods;
+
+  private final Map<List<Integer>, Integer> bootstrapMethodIndices;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  private ConstantClassGenerator() {
+    super();
+    this.constantPoolBytes = new ByteArrayOutputStream();
+    this.constantPool = new DataOutputStream(this.constantPoolBytes);
+    this.entries = new HashMap<>();
+    this.constantPoolCount = 1;
+    this.bootstrapMethods = new ArrayList<>();
+    this.bootstrapMethodIndices = new HashMap<>();
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  private final byte[] generate0(final String className, final Map<String, ? extends ConstantDesc> constants)
+    throws IOException {
+    final int thisClass = this.classEntry(className.replace('.', '/'));
+    final int superClass = this.classEntry("java/lang/Object");
+    final ByteArrayOutputStream methodBytes = new ByteArrayOutputStream();
+    final DataOutputStream methods = new DataOutputStream(methodBytes);
+    final int code = this.utf8("Code");
+    for (final Map.Entry<String, ? extends ConstantDesc> entry : constants.entrySet()) {
+      final ConstantDesc cd = entry.getValue();
+      final ClassDesc type = constantType(cd);
+      final int index = this.loadable(cd);
+      methods.writeShort(ACC_PUBLIC | ACC_STATIC);
+      methods.writeShort(this.utf8(entry.getKey()));
+      methods.writeShort(this.utf8("()" + type.descriptorString()));
+      methods.writeShort(1); // attributes_count
+      methods.writeShort(code);
+      final boolean wide = type.equals(CD_long) || type.equals(CD_double);
+      final byte[] instructions;
+      if (wide) {
+        instructions = new byte[] { (byte)LDC2_W, (byte)(index >>> 8), (byte)index, (byte)returnOpcode(type) };
+      } else if (index <= 0xFF) {
+        instructions = new byte[] { (byte)LDC, (byte)index, (byte)returnOpcode(type) };
+      } else {
+        instructions = new byte[] { (byte)LDC_W, (byte)(index >>> 8), (byte)index, (byte)returnOpcode(type) };
+      }
+      methods.writeInt(2 + 2 + 4 + instructions.length + 2 + 2); // attribute_length
+      methods.writeShort(wide ? 2 : 1); // max_stack
+      methods.writeShort(0); // max_locals
+      methods.writeInt(instructions.length);
+      methods.write(instructions);
+      methods.writeShort(0); // exception_table_length
+      methods.writeShort(0); // attributes_count
+    }
+    final int bootstrapMethodsName = this.bootstrapMethods.isEmpty() ? 0 : this.utf8("BootstrapMethods");
+
+    final ByteArrayOutputStream classBytes = new ByteArrayOutputStream();
+    final DataOutputStream out = new DataOutputStream(classBytes);
+    out.writeInt(MAGIC);
+    out.writeShort(0); // minor_version
+    out.writeShort(MAJOR_VERSION);
+    out.writeShort(this.constantPoolCount);
+    this.constantPool.flush();
+    this.constantPoolBytes.writeTo(out);
+    out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC);
+    out.writeShort(thisClass);
+    out.writeShort(superClass);
+    out.writeShort(0); // interfaces_count
+    out.writeShort(0); // fields_count
+    out.writeShort(constants.size()); // methods_count
+    methods.flush();
+    methodBytes.writeTo(out);
+    if (this.bootstrapMethods.isEmpty()) {
+      out.writeShort(0); // attributes_count
+    } else {
+      out.writeShort(1); // attributes_count
+      out.writeShort(bootstrapMethodsName);
+      int length = 2;
+      for (final List<Integer> bootstrapMethod : this.bootstrapMethods) {
+        length += 2 + 2 + 2 * (bootstrapMethod.size() - 1);
+      }
+      out.writeInt(length);
+      out.writeShort(this.bootstrapMethods.size());
+      for (final List<Integer> bootstrapMethod : this.bootstrapMethods) {
+        out.writeShort(bootstrapMethod.get(0).intValue());
+        out.writeShort(bootstrapMethod.size() - 1);
+        for (int i = 1; i < bootstrapMethod.size(); i++) {
+          out.writeShort(bootstrapMethod.get(i).intValue());
+        }
+      }
+    }
+    out.flush();
+    return classBytes.toByteArray();
+  }
+
+  // Returns the index of a loadable constant pool entry for the
+  // supplied ConstantDesc.
+  private final int loadable(final ConstantDesc cd) throws IOException {
+    if (cd instanceof String s) {
+      return this.entry(CONSTANT_String, this.utf8(s));
+    } else if (cd instanceof Integer i) {
+      return this.entry(List.of(CONSTANT_Integer, i), 1, out -> out.writeInt(i.intValue()));
+    } else if (cd instanceof Long l) {
+      return this.entry(List.of(CONSTANT_Long, l), 2, out -> out.writeLong(l.longValue()));
+    } else if (cd instanceof Float f) {
+      return this.entry(List.of(CONSTANT_Float, f), 1, out -> out.writeFloat(f.floatValue()));
+    } else if (cd instanceof Double d) {
+      return this.entry(List.of(CONSTANT_Double, d), 2, out -> out.writeDouble(d.doubleValue()));
+    } else if (cd instanceof ClassDesc c) {
+      if (c.isPrimitive()) {
+        return this.loadable(DynamicConstantDesc.ofNamed(BSM_PRIMITIVE_CLASS, c.descriptorString(), CD_Class));
+      }
+      final String descriptor = c.descriptorString();
+      return this.classEntry(c.isArray() ? descriptor : descriptor.substring(1, descriptor.length() - 1));
+    } else if (cd instanceof MethodTypeDesc m) {
+      return this.entry(CONSTANT_MethodType, this.utf8(m.descriptorString()));
+    } else if (cd instanceof DirectMethodHandleDesc m) {
+      return this.methodHandle(m);
+    } else if (cd instanceof DynamicConstantDesc<?> d) {
+      final List<Integer> bootstrapMethod = new ArrayList<>();
+      bootstrapMethod.add(Integer.valueOf(this.methodHandle(d.bootstrapMethod())));
+      for (final ConstantDesc argument : d.bootstrapArgsList()) {
+        bootstrapMethod.add(Integer.valueOf(this.loadable(argument)));
+      }
+      final int bootstrapMethodIndex = this.bootstrapMethodIndices.computeIfAbsent(bootstrapMethod, bm -> {
+          this.bootstrapMethods.add(bm);
+          return Integer.valueOf(this.bootstrapMethods.size() - 1);
+        }).intValue();
+      final int nameAndType = this.nameAndType(d.constantName(), d.constantType().descriptorString());
+      return this.entry(List.of(CONSTANT_Dynamic, bootstrapMethodIndex, nameAndType), 1, out -> {
+          out.writeShort(bootstrapMethodIndex);
+          out.writeShort(nameAndType);
+        });
+    } else {
+      throw new IllegalArgumentException("cd: " + cd);
+    }
+  }
+
+  private final int methodHandle(final DirectMethodHandleDesc m) throws IOException {
+    final int tag;
+    switch (m.kind()) {
+    case GETTER:
+    case STATIC_GETTER:
+    case SETTER:
+    case STATIC_SETTER:
+      tag = CONSTANT_Fieldref;
+      break;
+    case INTERFACE_VIRTUAL:
+    case INTERFACE_STATIC:
+    case INTERFACE_SPECIAL:
+      tag = CONSTANT_InterfaceMethodref;
+      break;
+    default:
+      tag = CONSTANT_Methodref;
+      break;
+    }
+    final String ownerDescriptor = m.owner().descriptorString();
+    final int owner = this.classEntry(ownerDescriptor.substring(1, ownerDescriptor.length() - 1));
+    final int nameAndType = this.nameAndType(m.methodName(), m.lookupDescriptor());
+    final int reference = this.entry(List.of(tag, owner, nameAndType), 1, out -> {
+        out.writeShort(owner);
+        out.writeShort(nameAndType);
+      });
+    final int refKind = m.refKind();
+    return this.entry(List.of(CONSTANT_MethodHandle, refKind, reference), 1, out -> {
+        out.writeByte(refKind);
+        out.writeShort(reference);
+      });
+  }
+
+  private final int nameAndType(final String name, final String descriptor) throws IOException {
+    final int n = this.utf8(name);
+    final int d = this.utf8(descriptor);
+    return this.entry(List.of(CONSTANT_NameAndType, n, d), 1, out -> {
+        out.writeShort(n);
+        out.writeShort(d);
+      });
+  }
+
+  private final int classEntry(final String internalName) throws IOException {
+    return this.entry(CONSTANT_Class, this.utf8(internalName));
+  }
+
+  private final int utf8(final String s) throws IOException {
+    return this.entry(List.of(CONSTANT_Utf8, s), 1, out -> out.writeUTF(s));
+  }
+
+  private final int entry(final int tag, final int index) throws IOException {
+    return this.entry(List.of(tag, index), 1, out -> out.writeShort(index));
+  }
+
+  private final int entry(final List<Object> key, final int slots, final EntryWriter writer) throws IOException {
+    final Integer existing = this.entries.get(key);
+    if (existing != null) {
+      return existing.intValue();
+    }
+    final int index = this.constantPoolCount;
+    if (index + slots > 0xFFFF) {
+      throw new IllegalStateException("Too many constants");
+    }
+    this.constantPool.writeByte(((Integer)key.get(0)).intValue());
+    writer.write(this.constantPool);
+    this.constantPoolCount += slots;
+    this.entries.put(key, Integer.valueOf(index));
+    return index;
+  }
+
+
+  /*
+   * Static methods.
+   */
+
+
+  /**
+   * Generates and returns the bytes of a class file for a {@code
+   * public final} class with the supplied binary name that has, for
+   * each entry in the supplied {@link Map}, a {@code public static}
+   * no-argument method named by the entry's key that returns the
+   * constant described by the entry's value.
+   *
+   * <p>Each method's return type is the {@linkplain
+   * DynamicConstantDesc#constantType() type} of the corresponding
+   * constant.  The generated class targets Java 17 and has no
+   * dependencies other than those of the constants' bootstrap
+   * methods.</p>
+   *
+   * @param className the binary name of the class to generate, e.g.
+   * {@code com.foo.TypeConstants}; must not be {@code null}
+   *
+   * @param constants a {@link Map} of method names to {@link
+   * Constable}s; must not be {@code null}; iteration order determines
+   * method order
+   *
+   * @return the bytes of a class file; never {@code null}
+   *
+   * @exception NullPointerException if either argument is {@code
+   * null}
+   *
+   * @exception IllegalArgumentException if a {@link Constable} cannot
+   * {@linkplain Constable#describeConstable() describe itself}, or
+   * describes itself in a way that cannot be loaded by {@code ldc}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic provided
+   * that the supplied {@link Map} has a deterministic iteration
+   * order.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public static final byte[] generate(final String className, final Map<String, ? extends Constable> constants) {
+    Objects.requireNonNull(className, "className");
+    final Map<String, ConstantDesc> descs = new LinkedHashMap<>();
+    for (final Map.Entry<String, ? extends Constable> entry : constants.entrySet()) {
+      final Constable c = entry.getValue();
+      descs.put(entry.getKey(),
+                c.describeConstable()
+                .orElseThrow(() -> new IllegalArgumentException("Not describable: " + c)));
+    }
+    try {
+      return new ConstantClassGenerator().generate0(className, descs);
+    } catch (final IOException e) {
+      // Writing to a ByteArrayOutputStream does not throw IOException.
+      throw new UncheckedIOException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Generates a class file, using the {@link #generate(String, Map)}
+   * method, with one method for each {@link Class} named by the third
+   * and subsequent arguments, and writes it beneath the directory
+   * named by the first argument.
+   *
+   * <p>The second argument is the binary name of the class to
+   * generate.  Each method is named after the corresponding class's
+   * binary name with all characters that are not legal in a Java
+   * identifier replaced by {@code _}, and returns a {@link
+   * JavaType}.  Classes are loaded, without being initialized, using
+   * the {@linkplain Thread#getContextClassLoader() context class
+   * loader}.</p>
+   *
+   * @param args the output directory, the class name, and zero or
+   * more type names; must not be {@code null}
+   *
+   * @exception ClassNotFoundException if a named class could not be
+   * loaded
+   *
+   * @exception IOException if the class file could not be written
+   *
+   * @exception IllegalArgumentException if fewer than two arguments
+   * are supplied
+   */
+  public static final void main(final String[] args) throws ClassNotFoundException, IOException {
+    if (args.length < 2) {
+      throw new IllegalArgumentException("Usage: ConstantClassGenerator <outputDirectory> <className> <typeName>...");
+    }
+    final ClassLoader cl = Thread.currentThread().getContextClassLoader();
+    final Map<String, JavaType> constants = new LinkedHashMap<>();
+    for (int i = 2; i < args.length; i++) {
+      constants.put(methodName(args[i]), JavaType.of(Class.forName(args[i], false, cl)));
+    }
+    final Path path = Path.of(args[0], args[1].replace('.', '/') + ".class");
+    Files.createDirectories(path.getParent());
+    Files.write(path, generate(args[1], constants));
+  }
+
+  private static final String methodName(final String typeName) {
+    final StringBuilder sb = new StringBuilder(typeName.length());
+    for (int i = 0; i < typeName.length(); i++) {
+      final char c = typeName.charAt(i);
+      sb.append(i == 0 ? (Character.isJavaIdentifierStart(c) ? c : '_') : (Character.isJavaIdentifierPart(c) ? c : '_'));
+    }
+    return sb.toString();
+  }
+
+  private static final ClassDesc constantType(final ConstantDesc cd) {
+    if (cd instanceof String) {
+      return CD_String;
+    } else if (cd instanceof Integer) {
+      return CD_int;
+    } else if (cd instanceof Long) {
+      return CD_long;
+    } else if (cd instanceof Float) {
+      return CD_float;
+    } else if (cd instanceof Double) {
+      return CD_double;
+    } else if (cd instanceof ClassDesc) {
+      return CD_Class;
+    } else if (cd instanceof MethodTypeDesc) {
+      return CD_MethodType;
+    } else if (cd instanceof MethodHandleDesc) {
+      return CD_MethodHandle;
+    } else if (cd instanceof DynamicConstantDesc<?> d) {
+      return d.constantType();
+    } else {
+      throw new IllegalArgumentException("cd: " + cd);
+    }
+  }
+
+  private static final int returnOpcode(final ClassDesc type) {
+    if (!type.isPrimitive()) {
+      return ARETURN;
+    } else if (type.equals(CD_long)) {
+      return LRETURN;
+    } else if (type.equals(CD_float)) {
+      return FRETURN;
+    } else if (type.equals(CD_double)) {
+      return DRETURN;
+    } else {
+      return IRETURN;
+    }
+  }
+
+
+  /*
+   * Inner and nested classes.
+   */
+
+
+  @FunctionalInterface
+  private static interface EntryWriter {
+
+    void write(final DataOutputStream out) throws IOException;
+
+  }
+
+}
@@ -302,13 +302,19 @@ public final class DefaultParameterizedType implements Constable, ParameterizedT
     return this.actualTypeArguments.clone();
   }
 
+  // Not cloned; do not modify.  Used by JavaTypes on its equality,
+  // hashing and description paths.
+  final Type[] actualTypeArguments() {
+    return this.actualTypeArguments;
+  }
+
   @Override // Constable
   public final Optional<? extends ConstantDesc> describeConstable() {
     final Optional<? extends ConstantDesc> ownerType = JavaTypes.describeConstable(this.getOwnerType());
     if (ownerType.isPresent()) {
       final Optional<? extends ConstantDesc> rawType = JavaTypes.describeConstable(this.getRawType());
       if (rawType.isPresent()) {
-        final Type[] actualTypeArguments = this.getActualTypeArguments();
+        final Type[] actualTypeArguments = this.actualTypeArguments; // not cloned; do not modify
         final int bsmInvokeArgumentsLength = actualTypeArguments.length + 3;
         final ConstantDesc[] bsmInvokeArguments = new ConstantDesc[bsmInvokeArgumentsLength];
         bsmInvokeArguments[0] =
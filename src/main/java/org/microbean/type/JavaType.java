@@ -27,6 +27,9 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.invoke.VarHandle;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.GenericArrayType;
@@ -46,6 +49,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import java.util.function.Function;
 
 import org.microbean.constant.Constables;
@@ -78,6 +84,43 @@ import static org.microbean.type.ConstantDescs.CD_Type;
 public class JavaType extends org.microbean.type.Type<Type> implements Constable {
 
 
+  /*
+   * Static fields.
+   */
+
+
+  private static final Pool POOL = new Pool();
+
+  private static final VarHandle TYPE;
+
+  private static final VarHandle OWNER;
+
+  private static final VarHandle TYPE_ARGUMENTS;
+
+  private static final VarHandle TYPE_PARAMETERS;
+
+  private static final VarHandle COMPONENT_TYPE;
+
+  private static final VarHandle LOWER_BOUNDS;
+
+  private static final VarHandle UPPER_BOUNDS;
+
+  static {
+    final Lookup lookup = MethodHandles.lookup();
+    try {
+      TYPE = lookup.findVarHandle(JavaType.class, "type", JavaType.class);
+      OWNER = lookup.findVarHandle(JavaType.class, "owner", Owner.class);
+      TYPE_ARGUMENTS = lookup.findVarHandle(JavaType.class, "typeArguments", List.class);
+      TYPE_PARAMETERS = lookup.findVarHandle(JavaType.class, "typeParameters", List.class);
+      COMPONENT_TYPE = lookup.findVarHandle(JavaType.class, "componentType", JavaType.class);
+      LOWER_BOUNDS = lookup.findVarHandle(JavaType.class, "lowerBounds", List.class);
+      UPPER_BOUNDS = lookup.findVarHandle(JavaType.class, "upperBounds", List.class);
+    } catch (final NoSuchFieldException | IllegalAccessException reflectiveOperationException) {
+      throw (Error)new ExceptionInInitializerError(reflectiveOperationException.getMessage()).initCause(reflectiveOperationException);
+    }
+  }
+
+
   /*
    * Instance fields.
    */
@@ -85,6 +128,25 @@ public class JavaType extends org.microbean.type.Type<Type> implements Constable
 
   private final boolean box;
 
+  private final boolean canonical;
+
+  // Lazily computed derived views.  For the componentType and owner
+  // fields, a value of this means "computed, and there isn't one".
+
+  private volatile JavaType type;
+
+  private volatile Owner<Type> owner;
+
+  private volatile List<? extends JavaType> typeArguments;
+
+  private volatile List<? extends JavaType> typeParameters;
+
+  private volatile JavaType componentType;
+
+  private volatile List<? extends JavaType> lowerBounds;
+
+  private volatile List<? extends JavaType> upperBounds;
+
 
   /*
    * Constructors.
@@ -102,8 +164,13 @@ public class JavaType extends org.microbean.type.Type<Type> implements Constable
    * @exception NullPointerException if {@code type} is {@code null}
    */
   protected JavaType(final boolean box, final Type type) {
+    this(box, type, false);
+  }
+
+  private JavaType(final boolean box, final Type type, final boolean canonical) {
     super(box ? JavaTypes.box(type) : type);
     this.box = box;
+    this.canonical = canonical;
   }
 
   /**
@@ -124,6 +191,7 @@ public class JavaType extends org.microbean.type.Type<Type> implements Constable
   protected JavaType(final boolean box, final List<?> supertypes) {
     super(map(supertypes, box ? JavaType::ofBoxed : JavaType::of));
     this.box = box;
+    this.canonical = false;
   }
 
 
@@ -234,7 +302,65 @@ public class JavaType extends org.microbean.type.Type<Type> implements Constable
    */
   @Override // org.microbean.type.Type<Type>
   public final JavaType withObject(final Type type) {
-    return of(this.box, type);
+    return this.canonical ? canonical(this.box, type) : of(this.box, type);
+  }
+
+  /**
+   * Returns {@code true} if and only if this {@link JavaType} was
+   * returned by one of the {@link #canonical(boolean, Type)} or
+   * {@link #canonical()} methods and hence is the sole {@link
+   * JavaType} in existence that is {@linkplain #equals(Object) equal}
+   * to it and that is also canonical.
+   *
+   * <p>{@link JavaType}s derived from a canonical {@link JavaType}
+   * (its {@linkplain #typeArguments() type arguments}, {@linkplain
+   * #upperBounds() bounds}, {@linkplain #directSupertypes() direct
+   * supertypes} and so on) are also canonical.</p>
+   *
+   * @return {@code true} if and only if this {@link JavaType} is
+   * canonical
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #canonical()
+   *
+   * @see #canonical(boolean, Type)
+   */
+  public final boolean isCanonical() {
+    return this.canonical;
+  }
+
+  /**
+   * Returns the canonical {@link JavaType} that is {@linkplain
+   * #equals(Object) equal} to this {@link JavaType}, which may be
+   * this {@link JavaType} itself.
+   *
+   * <p>If this {@link JavaType} is {@linkplain #customSupertyped()
+   * custom supertyped}, {@code this} is returned.</p>
+   *
+   * @return the canonical {@link JavaType} that is {@linkplain
+   * #equals(Object) equal} to this {@link JavaType}; never {@code
+   * null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic while
+   * the returned {@link JavaType} is strongly reachable.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #canonical(boolean, Type)
+   */
+  public final JavaType canonical() {
+    if (this.canonical) {
+      return this;
+    }
+    final Type type = this.object();
+    return type == null ? this : canonical(this.box, type);
   }
 
   /**
@@ -259,7 +385,7 @@ public class JavaType extends org.microbean.type.Type<Type> implements Constable
    * @see #of(boolean, Type)
    */
   public final JavaType withBox(final boolean box) {
-    return of(box, this.object());
+    return this.canonical ? canonical(box, this.object()) : of(box, this.object());
   }
 
   /**
@@ -316,6 +442,17 @@ public class JavaType extends org.microbean.type.Type<Type> implements Constable
    */
   @Override // org.microbean.type.Type<Type>
   public final JavaType type() {
+    JavaType type = this.type; // volatile read
+    if (type == null) {
+      type = this.computeType();
+      if (!TYPE.compareAndSet(this, null, type)) { // volatile write
+        return this.type; // volatile read
+      }
+    }
+    return type;
+  }
+
+  private final JavaType computeType() {
     final Object type = this.object();
     if (type instanceof ParameterizedType p) {
       return this.withObject(p.getRawType());
@@ -342,6 +479,20 @@ public class JavaType extends org.microbean.type.Type<Type> implements Constable
   @Experimental
   @Override // org.microbean.type.Type<Type>
   public final Owner<Type> owner() {
+    Owner<Type> owner = this.owner; // volatile read
+    if (owner == null) {
+      owner = this.computeOwner();
+      if (owner == null) {
+        owner = this;
+      }
+      if (!OWNER.compareAndSet(this, null, owner)) { // volatile write
+        owner = this.owner; // volatile read
+      }
+    }
+    return owner == this ? null : owner;
+  }
+
+  private final Owner<Type> computeOwner() {
     final Object type = this.object();
     if (type == null) {
       return null;
@@ -443,7 +594,14 @@ public class JavaType extends org.microbean.type.Type<Type> implements Constable
    */
   @Override // org.microbean.type.Type<Type>
   public final List<? extends JavaType> typeArguments() {
-    return this.object() instanceof ParameterizedType p ? map(p.getActualTypeArguments(), this::withObject) : List.of();
+    List<? extends JavaType> typeArguments = this.typeArguments; // volatile read
+    if (typeArguments == null) {
+      typeArguments = this.object() instanceof ParameterizedType p ? map(p.getActualTypeArguments(), this::withObject) : List.of();
+      if (!TYPE_ARGUMENTS.compareAndSet(this, null, typeArguments)) { // volatile write
+        return this.typeArguments; // volatile read
+      }
+    }
+    return typeArguments;
   }
 
   /**
@@ -469,7 +627,14 @@ public class JavaType extends org.microbean.type.Type<Type> implements Constable
    */
   @Override // org.microbean.type.Type<Type>
   public final List<? extends JavaType> typeParameters() {
-    return this.object() instanceof Class<?> c ? map(c.getTypeParameters(), this::withObject) : List.of();
+    List<? extends JavaType> typeParameters = this.typeParameters; // volatile read
+    if (typeParameters == null) {
+      typeParameters = this.object() instanceof Class<?> c ? map(c.getTypeParameters(), this::withObject) : List.of();
+      if (!TYPE_PARAMETERS.compareAndSet(this, null, typeParameters)) { // volatile write
+        return this.typeParameters; // volatile read
+      }
+    }
+    return typeParameters;
   }
 
   /**
@@ -499,6 +664,20 @@ public class JavaType extends org.microbean.type.Type<Type> implements Constable
    */
   @Override // org.microbean.type.Type<Type>
   public final JavaType componentType() {
+    JavaType componentType = this.componentType; // volatile read
+    if (componentType == null) {
+      componentType = this.computeComponentType();
+      if (componentType == null) {
+        componentType = this;
+      }
+      if (!COMPONENT_TYPE.compareAndSet(this, null, componentType)) { // volatile write
+        componentType = this.componentType; // volatile read
+      }
+    }
+    return componentType == this ? null : componentType;
+  }
+
+  private final JavaType computeComponentType() {
     Type type = this.object();
     if (type == null) {
       return null;
@@ -595,7 +774,14 @@ public class JavaType extends org.microbean.type.Type<Type> implements Constable
    */
   @Override // org.microbean.type.Type<Type>
   public final List<? extends JavaType> lowerBounds() {
-    return this.object() instanceof WildcardType w ? map(w.getLowerBounds(), this::withObject) : List.of();
+    List<? extends JavaType> lowerBounds = this.lowerBounds; // volatile read
+    if (lowerBounds == null) {
+      lowerBounds = this.object() instanceof WildcardType w ? map(w.getLowerBounds(), this::withObject) : List.of();
+      if (!LOWER_BOUNDS.compareAndSet(this, null, lowerBounds)) { // volatile write
+        return this.lowerBounds; // volatile read
+      }
+    }
+    return lowerBounds;
   }
 
   /**
@@ -628,6 +814,17 @@ public class JavaType extends org.microbean.type.Type<Type> implements Constable
    */
   @Override // org.microbean.type.Type<Type>
   public final List<? extends JavaType> upperBounds() {
+    List<? extends JavaType> upperBounds = this.upperBounds; // volatile read
+    if (upperBounds == null) {
+      upperBounds = this.computeUpperBounds();
+      if (!UPPER_BOUNDS.compareAndSet(this, null, upperBounds)) { // volatile write
+        return this.upperBounds; // volatile read
+      }
+    }
+    return upperBounds;
+  }
+
+  private final List<? extends JavaType> computeUpperBounds() {
     final Object type = this.object();
     if (type instanceof WildcardType w) {
       return map(w.getUpperBounds(), this::withObject);
@@ -669,6 +866,16 @@ public class JavaType extends org.microbean.type.Type<Type> implements Constable
       if (object != null) {
         final ConstantDesc objectCd = JavaTypes.describeConstable(object).orElse(null);
         if (objectCd != null) {
+          if (this.canonical) {
+            return
+              Optional.of(DynamicConstantDesc.of(BSM_INVOKE,
+                                                 MethodHandleDesc.ofMethod(STATIC,
+                                                                           CD_JavaType,
+                                                                           "canonical",
+                                                                           MethodTypeDesc.of(CD_JavaType, CD_boolean, CD_Type)),
+                                                 boxCd,
+                                                 objectCd));
+          }
           return
             Optional.of(DynamicConstantDesc.of(BSM_INVOKE,
                                                MethodHandleDesc.ofMethod(STATIC,
@@ -903,6 +1110,51 @@ public class JavaType extends org.microbean.type.Type<Type> implements Constable
     return new JavaType(box, type);
   }
 
+  /**
+   * Returns the canonical {@link JavaType} suitable for the supplied
+   * arguments.
+   *
+   * <p>Canonicalization is opt-in.  Any two invocations of this
+   * method with {@linkplain JavaTypes#equals(Type, Type) equal}
+   * {@link Type}s and identical {@code box} values will return the
+   * very same {@link JavaType} for as long as that {@link JavaType}
+   * is strongly reachable.  The pool backing this method holds its
+   * {@link JavaType}s weakly, so it does not by itself prevent any
+   * {@link Type} (or the {@link ClassLoader} that loaded it) from
+   * being garbage collected.</p>
+   *
+   * <p>{@link JavaType}s returned by this method {@linkplain
+   * #isCanonical() are canonical}, as are all {@link JavaType}s
+   * derived from them, so {@linkplain #equals(Object) equality}
+   * comparisons among them are usually satisfied by an identity
+   * check.</p>
+   *
+   * @param box whether autoboxing is enabled
+   *
+   * @param type the {@link Type} that will be modeled; must not be
+   * {@code null}
+   *
+   * @return a canonical {@link JavaType}; never {@code null}
+   *
+   * @exception NullPointerException if {@code type} is {@code null}.
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic while
+   * the returned {@link JavaType} is strongly reachable.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #isCanonical()
+   *
+   * @see #of(boolean, Type)
+   */
+  // This method is used by describeConstable().
+  public static final JavaType canonical(final boolean box, final Type type) {
+    return POOL.canonical(box, type);
+  }
+
   /**
    * Returns a {@link JavaType} suitable for the supplied arguments.
    *
@@ -1470,4 +1722,125 @@ public class JavaType extends org.microbean.type.Type<Type> implements Constable
 
   }
 
+  private static final class Pool {
+
+    private final ReferenceQueue<JavaType> referenceQueue;
+
+    private final ConcurrentMap<Object, Entry> entries;
+
+    private Pool() {
+      super();
+      this.referenceQueue = new ReferenceQueue<>();
+      this.entries = new ConcurrentHashMap<>();
+    }
+
+    private final JavaType canonical(final boolean box, Type type) {
+      this.expungeStaleEntries();
+      if (box) {
+        type = JavaTypes.box(type);
+      }
+      final Key key = new Key(box, Objects.requireNonNull(type, "type"));
+      Entry entry = this.entries.get(key);
+      JavaType javaType = entry == null ? null : entry.get();
+      if (javaType != null) {
+        return javaType;
+      }
+      final JavaType candidate = new JavaType(box, type, true);
+      final Entry candidateEntry = new Entry(candidate, key.hashCode(), this.referenceQueue);
+      while (true) {
+        entry = this.entries.putIfAbsent(candidateEntry, candidateEntry);
+        if (entry == null) {
+          return candidate;
+        }
+        javaType = entry.get();
+        if (javaType != null) {
+          return javaType;
+        }
+        // The existing entry was cleared after it was found but before
+        // we could dereference it; remove it and try again.
+        this.entries.remove(entry, entry);
+      }
+    }
+
+    private final void expungeStaleEntries() {
+      Object ref;
+      while ((ref = this.referenceQueue.poll()) != null) {
+        this.entries.remove(ref, ref);
+      }
+    }
+
+    private static final boolean equals(final JavaType javaType, final boolean box, final Type type) {
+      return javaType.box == box && JavaTypes.equals(javaType.object(), type);
+    }
+
+    private static final class Key {
+
+      private final boolean box;
+
+      private final Type type;
+
+      private final int hashCode;
+
+      private Key(final boolean box, final Type type) {
+        super();
+        this.box = box;
+        this.type = type;
+        this.hashCode = 31 * JavaTypes.hashCode(type) + (box ? 1231 : 1237);
+      }
+
+      @Override // Object
+      public final int hashCode() {
+        return this.hashCode;
+      }
+
+      @Override // Object
+      public final boolean equals(final Object other) {
+        if (other == this) {
+          return true;
+        } else if (other instanceof Entry entry) {
+          final JavaType javaType = entry.get();
+          return javaType != null && Pool.equals(javaType, this.box, this.type);
+        } else {
+          return false;
+        }
+      }
+
+    }
+
+    private static final class Entry extends WeakReference<JavaType> {
+
+      private final int hashCode;
+
+      private Entry(final JavaType javaType, final int hashCode, final ReferenceQueue<? super JavaType> referenceQueue) {
+        super(javaType, referenceQueue);
+        this.hashCode = hashCode;
+      }
+
+      @Override // Object
+      public final int hashCode() {
+        return this.hashCode;
+      }
+
+      @Override // Object
+      public final boolean equals(final Object other) {
+        if (other == this) {
+          return true;
+        } else if (other instanceof Entry entry) {
+          final JavaType javaType = this.get();
+          final JavaType otherJavaType = entry.get();
+          return
+            javaType != null &&
+            otherJavaType != null &&
+            Pool.equals(javaType, otherJavaType.box, otherJavaType.object());
+        } else if (other instanceof Key key) {
+          return key.equals(this);
+        } else {
+          return false;
+        }
+      }
+
+    }
+
+  }
+
 }
@@ -30,6 +30,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.Spliterator;
@@ -45,8 +46,6 @@ import static java.util.Spliterator.DISTINCT;
 import static java.util.Spliterator.IMMUTABLE;
 import static java.util.Spliterator.NONNULL;
 import static java.util.Spliterator.ORDERED;
-import static java.util.Spliterator.SIZED;
-import static java.util.Spliterator.SUBSIZED;
 
 /**
  * An immutable {@link AbstractSet} of {@link Type
@@ -81,6 +80,10 @@ public final class JavaTypeSet extends AbstractSet<Type> {
 
   private static final JavaTypeSet EMPTY_JAVA_TYPE_SET = new JavaTypeSet();
 
+  private static final VarHandle JAVA_TYPE_LIST;
+
+  private static final VarHandle JAVA_TYPE_SET;
+
   private static final VarHandle MOST_SPECIALIZED_INTERFACE_TYPE;
 
   private static final VarHandle MOST_SPECIALIZED_NON_INTERFACE_TYPE;
@@ -88,6 +91,8 @@ public final class JavaTypeSet extends AbstractSet<Type> {
   static {
     final Lookup lookup = MethodHandles.lookup();
     try {
+      JAVA_TYPE_LIST = lookup.findVarHandle(JavaTypeSet.class, "javaTypeList", List.class);
+      JAVA_TYPE_SET = lookup.findVarHandle(JavaTypeSet.class, "javaTypeSet", Set.class);
       MOST_SPECIALIZED_INTERFACE_TYPE = lookup.findVarHandle(JavaTypeSet.class, "mostSpecializedInterfaceType", Type.class);
       MOST_SPECIALIZED_NON_INTERFACE_TYPE = lookup.findVarHandle(JavaTypeSet.class, "mostSpecializedNonInterfaceType", Type.class);
     } catch (final NoSuchFieldException | IllegalAccessException reflectiveOperationException) {
@@ -101,7 +106,20 @@ public final class JavaTypeSet extends AbstractSet<Type> {
    */
 
 
-  private final Set<JavaType> set;
+  // The elements of this set, in insertion order.
+  private final Type[] types;
+
+  // JavaTypes.hashCode(Type) of each element of types, by position.
+  private final int[] hashCodes;
+
+  // An open-addressing hash table (linear probing) of positions in
+  // types, each stored plus one so that zero denotes an empty slot;
+  // null when there are fewer than two elements.
+  private final int[] table;
+
+  private volatile List<JavaType> javaTypeList;
+
+  private volatile Set<JavaType> javaTypeSet;
 
   private volatile Type mostSpecializedNonInterfaceType;
 
@@ -115,58 +133,103 @@ public final class JavaTypeSet extends AbstractSet<Type> {
 
   private JavaTypeSet() {
     super();
-    this.set = Set.of();
+    this.types = JavaTypes.emptyTypeArray();
+    this.hashCodes = new int[0];
+    this.table = null;
   }
 
   private JavaTypeSet(final Type type) {
-    this(JavaType.of(type));
+    super();
+    this.types = new Type[] { Objects.requireNonNull(type, "type") };
+    this.hashCodes = new int[] { JavaTypes.hashCode(type) };
+    this.table = null;
   }
 
   private JavaTypeSet(final org.microbean.type.Type<? extends Type> t) {
-    super();
-    this.set = Set.of(t instanceof JavaType jt ? jt : JavaType.of(t.object()));
+    this(t.object());
   }
 
   private JavaTypeSet(final Collection<?> types) {
     super();
-    final int size = types == null || types.isEmpty() ? 0 : types.size();
-    switch (size) {
-    case 0:
-      this.set = Set.of();
-      break;
-    case 1:
-      final Object o = types instanceof List<?> list ? list.get(0) : types.iterator().next();
-      if (o instanceof JavaType jt) {
-        this.set = Set.of(jt);
-      } else if (o instanceof Type t) {
-        this.set = Set.of(JavaType.of(t));
-      } else if (o instanceof org.microbean.type.Type<?> t) {
-        final Object modeledType = t.object();
-        if (modeledType instanceof Type) {
-          this.set = Set.of(JavaType.of((Type)modeledType));
-        } else {
-          this.set = Set.of();
-        }
+    final int size = types == null ? 0 : types.size();
+    if (size == 0) {
+      this.types = JavaTypes.emptyTypeArray();
+      this.hashCodes = new int[0];
+      this.table = null;
+      return;
+    }
+    Type[] ts = new Type[size];
+    int[] hashCodes = new int[size];
+    final int[] table = new int[tableLength(size)];
+    final int mask = table.length - 1;
+    int count = 0;
+    for (final Object o : types) {
+      final Type t;
+      if (o instanceof Type type) {
+        t = type;
+      } else if (o instanceof org.microbean.type.Type<?> type && type.object() instanceof Type modeledType) {
+        // (Includes JavaType instances.)
+        t = modeledType;
       } else {
-        this.set = Set.of();
+        continue;
       }
-      break;
-    default:
-      final Set<JavaType> set = new LinkedHashSet<>(8); // LinkedHashSet is critical for ordering
-      for (final Object type : types) {
-        if (type instanceof JavaType jt) {
-          set.add(jt);
-        } else if (type instanceof Type t) {
-          set.add(JavaType.of(t));
-        } else if (type instanceof org.microbean.type.Type<?> t) {
-          final Object modeledType = t.object();
-          if (modeledType instanceof Type) {
-            set.add(JavaType.of((Type)modeledType));
-          }
+      final int hashCode = JavaTypes.hashCode(t);
+      int i = spread(hashCode) & mask;
+      while (true) {
+        final int slot = table[i];
+        if (slot == 0) {
+          ts[count] = t;
+          hashCodes[count] = hashCode;
+          table[i] = ++count;
+          break;
+        } else if (hashCodes[slot - 1] == hashCode && JavaTypes.equals(ts[slot - 1], t)) {
+          break;
         }
+        i = (i + 1) & mask;
       }
-      this.set = Collections.unmodifiableSet(set);
-      break;
+    }
+    if (count < size) {
+      ts = Arrays.copyOf(ts, count);
+      hashCodes = Arrays.copyOf(hashCodes, count);
+    }
+    this.types = ts;
+    this.hashCodes = hashCodes;
+    this.table = count < 2 ? null : table;
+  }
+
+  private JavaTypeSet(final JavaTypeSet source, final boolean[] selected) {
+    super();
+    final Type[] sourceTypes = source.types;
+    Type[] ts = new Type[sourceTypes.length];
+    int[] hashCodes = new int[sourceTypes.length];
+    int count = 0;
+    for (int i = 0; i < sourceTypes.length; i++) {
+      if (selected[i]) {
+        ts[count] = sourceTypes[i];
+        hashCodes[count++] = source.hashCodes[i];
+      }
+    }
+    if (count < ts.length) {
+      ts = Arrays.copyOf(ts, count);
+      hashCodes = Arrays.copyOf(hashCodes, count);
+    }
+    this.types = ts;
+    this.hashCodes = hashCodes;
+    if (count < 2) {
+      this.table = null;
+    } else {
+      // Elements are already distinct, so no equality checks are
+      // needed.
+      final int[] table = new int[tableLength(count)];
+      final int mask = table.length - 1;
+      for (int i = 0; i < count; i++) {
+        int j = spread(hashCodes[i]) & mask;
+        while (table[j] != 0) {
+          j = (j + 1) & mask;
+        }
+        table[j] = i + 1;
+      }
+      this.table = table;
     }
   }
 
@@ -195,7 +258,16 @@ public final class JavaTypeSet extends AbstractSet<Type> {
    * threads.
    */
   public final List<JavaType> javaTypeList() {
-    return List.copyOf(this.set);
+    final List<JavaType> javaTypeList = this.javaTypeList; // volatile read
+    return javaTypeList == null ? SingleFlight.get(this, JAVA_TYPE_LIST, this::computeJavaTypeList) : javaTypeList;
+  }
+
+  private final List<JavaType> computeJavaTypeList() {
+    final JavaType[] javaTypes = new JavaType[this.types.length];
+    for (int i = 0; i < javaTypes.length; i++) {
+      javaTypes[i] = JavaType.of(this.types[i]);
+    }
+    return List.of(javaTypes);
   }
 
   /**
@@ -217,9 +289,15 @@ public final class JavaTypeSet extends AbstractSet<Type> {
    * threads.
    */
   public final Set<JavaType> javaTypeSet() {
-    return this.set;
+    final Set<JavaType> javaTypeSet = this.javaTypeSet; // volatile read
+    return javaTypeSet == null ? SingleFlight.get(this, JAVA_TYPE_SET, this::computeJavaTypeSet) : javaTypeSet;
+  }
+
+  private final Set<JavaType> computeJavaTypeSet() {
+    return Collections.unmodifiableSet(new LinkedHashSet<>(this.javaTypeList())); // LinkedHashSet is critical for ordering
   }
 
+
   /**
    * Returns a {@linkplain org.microbean.type.Type#customSupertyped()
    * custom supertyped} {@link JavaType} representing this {@link
@@ -289,9 +367,7 @@ public final class JavaTypeSet extends AbstractSet<Type> {
    * threads.
    */
   public final JavaTypeSet nonInterfaceTypes() {
-    return new JavaTypeSet(this.set.stream()
-                           .filter(JavaTypeSet::nonInterfaceType)
-                           .toList());
+    return new JavaTypeSet(this, this.select(JavaTypeSet::nonInterfaceType));
   }
 
   /**
@@ -311,9 +387,45 @@ public final class JavaTypeSet extends AbstractSet<Type> {
    * threads.
    */
   public final JavaTypeSet interfaceTypes() {
-    return new JavaTypeSet(this.set.stream()
-                           .filter(JavaTypeSet::interfaceType)
-                           .toList());
+    return new JavaTypeSet(this, this.select(JavaTypeSet::interfaceType));
+  }
+
+  /**
+   * Returns a new {@link JavaTypeSet} containing only those {@link
+   * Type}s from this {@link JavaTypeSet} that pass the test
+   * represented by the supplied {@link Predicate} and that are not
+   * {@linkplain JavaTypes#supertype(Type, Type) supertypes} of any
+   * other such {@link Type} in this {@link JavaTypeSet}.
+   *
+   * <p>The returned {@link JavaTypeSet} is therefore the set of
+   * maximal elements, in the subtype partial order, of the elements
+   * of this {@link JavaTypeSet} that pass the supplied {@link
+   * Predicate}.  Its iteration order is consistent with that of this
+   * {@link JavaTypeSet}.</p>
+   *
+   * <p>The partial order is built in a single pass over this {@link
+   * JavaTypeSet}, visiting each {@linkplain JavaTypes#supertypes(Type)
+   * supertype} of each element at most once.</p>
+   *
+   * @param p the {@link Predicate} selecting candidate elements; must
+   * not be {@code null}
+   *
+   * @return a new {@link JavaTypeSet} containing the most specialized
+   * elements of this {@link JavaTypeSet} that pass the supplied
+   * {@link Predicate}
+   *
+   * @exception NullPointerException if {@code p} is {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic provided
+   * that the supplied {@link Predicate} is deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final JavaTypeSet mostSpecializedTypes(final Predicate<? super Type> p) {
+    return new JavaTypeSet(this, this.mostSpecializedSelection(p));
   }
 
   /**
@@ -465,10 +577,8 @@ public final class JavaTypeSet extends AbstractSet<Type> {
   public final Type mostSpecializedNonInterfaceType() {
     Type mostSpecializedNonInterfaceType = this.mostSpecializedNonInterfaceType; // volatile read
     if (mostSpecializedNonInterfaceType == null) {
-      mostSpecializedNonInterfaceType = this.mostSpecialized(JavaTypeSet::nonInterfaceType);
-      if (!MOST_SPECIALIZED_NON_INTERFACE_TYPE.compareAndSet(this, null, mostSpecializedNonInterfaceType)) { // volatile write
-        return this.mostSpecializedNonInterfaceType; // volatile read
-      }
+      mostSpecializedNonInterfaceType =
+        SingleFlight.get(this, MOST_SPECIALIZED_NON_INTERFACE_TYPE, () -> nullType(this.mostSpecialized(JavaTypeSet::nonInterfaceType)));
     }
     return mostSpecializedNonInterfaceType == NullType.INSTANCE ? null : mostSpecializedNonInterfaceType;
   }
@@ -519,51 +629,103 @@ public final class JavaTypeSet extends AbstractSet<Type> {
   public final Type mostSpecializedInterfaceType() {
     Type mostSpecializedInterfaceType = this.mostSpecializedInterfaceType; // volatile read
     if (mostSpecializedInterfaceType == null) {
-      mostSpecializedInterfaceType = this.mostSpecialized(JavaTypeSet::interfaceType);
-      if (!MOST_SPECIALIZED_INTERFACE_TYPE.compareAndSet(this, null, mostSpecializedInterfaceType)) { // volatile write
-        return this.mostSpecializedInterfaceType; // volatile read
-      }
+      mostSpecializedInterfaceType =
+        SingleFlight.get(this, MOST_SPECIALIZED_INTERFACE_TYPE, () -> nullType(this.mostSpecialized(JavaTypeSet::interfaceType)));
     }
     return mostSpecializedInterfaceType == NullType.INSTANCE ? null : mostSpecializedInterfaceType;
   }
 
   private final Type mostSpecialized(final Predicate<? super Type> p) {
-    Type candidate = null;
-    for (final JavaType javaType : this.set) {
-      final Type type = javaType.object();
-      if (candidate == null) {
-        if (p.test(type)) {
-          candidate = type;
-        }
-      } else {
-        for (final Type supertype : JavaTypes.supertypes(type)) {
-          if (p.test(supertype) && this.set.contains(JavaType.of(supertype)) && JavaTypes.supertype(candidate, supertype)) {
-            candidate = supertype;
+    final boolean[] selected = this.mostSpecializedSelection(p);
+    for (int i = 0; i < selected.length; i++) {
+      if (selected[i]) {
+        return this.types[i];
+      }
+    }
+    return null;
+  }
+
+  private final boolean[] select(final Predicate<? super Type> p) {
+    final Type[] types = this.types;
+    final boolean[] selected = new boolean[types.length];
+    for (int i = 0; i < types.length; i++) {
+      selected[i] = p.test(types[i]);
+    }
+    return selected;
+  }
+
+  private final boolean[] mostSpecializedSelection(final Predicate<? super Type> p) {
+    final Type[] types = this.types;
+    final boolean[] selected = this.select(p);
+    if (types.length < 2) {
+      return selected;
+    }
+    // Walk each selected element's supertype closure once, deselecting
+    // every other selected element found in it.  An element that has
+    // already been deselected need not be walked: whatever deselected
+    // it has a closure that contains its closure.
+    for (int i = 0; i < types.length; i++) {
+      if (selected[i]) {
+        for (final Type supertype : JavaTypes.supertypes(types[i])) {
+          final int j = this.indexOf(supertype);
+          if (j >= 0 && j != i) {
+            selected[j] = false;
           }
         }
       }
     }
-    return candidate;
+    return selected;
   }
 
   @Override // Set<Type>
   public final boolean contains(final Object o) {
-    return o instanceof Type t ? this.set.contains(JavaType.of(t)) : this.set.contains(o);
+    if (o instanceof Type t) {
+      return this.contains(t);
+    } else if (o instanceof org.microbean.type.Type<?> t && t.object() instanceof Type modeledType) {
+      // (Includes JavaType instances.)
+      return this.contains(modeledType);
+    }
+    return false;
+  }
+
+  private final boolean contains(final Type t) {
+    return this.indexOf(t) >= 0;
+  }
+
+  private final int indexOf(final Type t) {
+    final Type[] types = this.types;
+    switch (types.length) {
+    case 0:
+      return -1;
+    case 1:
+      return JavaTypes.equals(types[0], t) ? 0 : -1;
+    default:
+      final int hashCode = JavaTypes.hashCode(t);
+      final int[] table = this.table;
+      final int mask = table.length - 1;
+      for (int i = spread(hashCode) & mask; table[i] != 0; i = (i + 1) & mask) {
+        final int position = table[i] - 1;
+        if (this.hashCodes[position] == hashCode && JavaTypes.equals(types[position], t)) {
+          return position;
+        }
+      }
+      return -1;
+    }
   }
 
   @Override // Set<Type>
   public final boolean isEmpty() {
-    return this.set.isEmpty();
+    return this.types.length == 0;
   }
 
   @Override // Set<Type>
   public final int size() {
-    return this.set.size();
+    return this.types.length;
   }
 
   @Override // Set<Type>
   public final Iterator<Type> iterator() {
-    return this.set.isEmpty() ? Collections.emptyIterator() : new TypeIterator(this.set.iterator());
+    return this.types.length == 0 ? Collections.emptyIterator() : new TypeIterator(this.types);
   }
 
   /**
@@ -581,12 +743,12 @@ public final class JavaTypeSet extends AbstractSet<Type> {
    * threads.
    */
   public final Iterator<JavaType> javaTypeIterator() {
-    return this.set.iterator();
+    return this.javaTypeList().iterator();
   }
 
   @Override // Set<Type>
   public final Stream<Type> stream() {
-    return this.set.stream().map(JavaType::object);
+    return Arrays.stream(this.types);
   }
 
   /**
@@ -604,18 +766,17 @@ public final class JavaTypeSet extends AbstractSet<Type> {
    * threads.
    */
   public final Stream<JavaType> javaTypeStream() {
-    return this.set.stream();
+    return this.javaTypeList().stream();
   }
 
   @Override // Set<Type>
   public final Spliterator<Type> spliterator() {
-    if (this.set.isEmpty()) {
+    if (this.types.length == 0) {
       return Spliterators.emptySpliterator();
     } else {
       return
-        Spliterators.spliterator(this.iterator(),
-                                 this.size(),
-                                 DISTINCT | IMMUTABLE | NONNULL | ORDERED | SIZED | SUBSIZED);
+        Spliterators.spliterator(this.types,
+                                 DISTINCT | IMMUTABLE | NONNULL | ORDERED);
     }
   }
 
@@ -634,7 +795,7 @@ public final class JavaTypeSet extends AbstractSet<Type> {
    * threads.
    */
   public final Spliterator<JavaType> javaTypeSpliterator() {
-    return this.set.spliterator();
+    return this.javaTypeSet().spliterator();
   }
 
 
@@ -992,17 +1153,23 @@ public final class JavaTypeSet extends AbstractSet<Type> {
     return of(JavaTypes.supertypes(t, acceptancePredicate));
   }
 
-  private static final boolean nonInterfaceType(final JavaType t) {
-    return nonInterfaceType(t.type());
-  }
-
   private static final boolean nonInterfaceType(final Type t) {
     final Class<?> c = JavaTypes.erase(t);
     return c != null && !c.isInterface();
   }
 
-  private static final boolean interfaceType(final JavaType t) {
-    return interfaceType(t.type());
+  private static final Type nullType(final Type type) {
+    return type == null ? NullType.INSTANCE : type;
+  }
+
+  private static final int tableLength(final int size) {
+    // Power of two at least twice as large as size, so there is
+    // always at least one empty slot.
+    return Integer.highestOneBit(Math.max(1, size) << 1) << 1;
+  }
+
+  private static final int spread(final int hashCode) {
+    return hashCode ^ (hashCode >>> 16);
   }
 
   private static final boolean interfaceType(final Type t) {
@@ -1018,26 +1185,26 @@ public final class JavaTypeSet extends AbstractSet<Type> {
 
   private static final class TypeIterator implements Iterator<Type> {
 
-    private final Iterator<? extends JavaType> i;
+    private final Type[] types;
+
+    private int i;
 
-    private TypeIterator(final Iterator<? extends JavaType> i) {
+    private TypeIterator(final Type[] types) {
       super();
-      this.i = Objects.requireNonNull(i, "i");
+      this.types = Objects.requireNonNull(types, "types");
     }
 
     @Override // Iterator<Type>
     public final boolean hasNext() {
-      return this.i.hasNext();
+      return this.i < this.types.length;
     }
 
     @Override // Iterator<Type>
     public final Type next() {
-      return this.i.next().object();
-    }
-
-    @Override // Iterator<Type>
-    public final void remove() {
-      this.i.remove();
+      if (this.i >= this.types.length) {
+        throw new NoSuchElementException();
+      }
+      return this.types[this.i++];
     }
 
   }
@@ -26,7 +26,10 @@ import java.lang.constant.DynamicConstantDesc;
 import java.lang.constant.MethodHandleDesc;
 import java.lang.constant.MethodTypeDesc;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
@@ -38,11 +41,15 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
 
+import java.time.Duration;
+
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -50,9 +57,19 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
 import java.util.function.Predicate;
 
 import org.microbean.development.annotation.Convenience;
+import org.microbean.development.annotation.Experimental;
 
 import org.microbean.type.Type.CovariantSemantics;
 
@@ -115,6 +132,32 @@ public final class JavaTypes {
            short.class,   Short.class,
            void.class,    Void.class);
 
+  // Immutable per-Class snapshots of reflective supertype
+  // information.  Class#getGenericSuperclass(),
+  // Class#getGenericInterfaces() and friends clone arrays (and may
+  // reparse generic signatures) on every invocation.  A ClassValue
+  // stores its values with the Class itself and so does not prevent
+  // any ClassLoader from being unloaded.
+  private static final ClassValue<ClassMetadata> CLASS_METADATA = new ClassValue<>() {
+      @Override // ClassValue<ClassMetadata>
+      protected final ClassMetadata computeValue(final Class<?> c) {
+        return new ClassMetadata(c);
+      }
+    };
+
+  // Memoized supertype closures of types that are not Classes (whose
+  // closures are held by CLASS_METADATA instead).  Filtered closures
+  // are not cached: filtering a cached closure is cheap, and
+  // predicates (often capturing lambdas) rarely recur.  Bounded,
+  // since its keys may reference Classes strongly.
+  private static final BoundedCache<SupertypesKey, Collection<Type>> SUPERTYPES_CACHE =
+    new BoundedCache<>(Integer.getInteger("org.microbean.type.JavaTypes.supertypesCacheSize", 4096));
+
+  // Executors#newVirtualThreadPerTaskExecutor(), if the runtime has
+  // it, or null.  Looked up reflectively so that this class can still
+  // be compiled with --release 17.
+  private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = newVirtualThreadPerTaskExecutor();
+
 
   /*
    * Constructors.
@@ -360,6 +403,10 @@ public final class JavaTypes {
   }
 
   private static final Collection<? extends Type> directSupertypes(final Class<?> c) {
+    return CLASS_METADATA.get(c).directSupertypes;
+  }
+
+  private static final Collection<? extends Type> computeDirectSupertypes(final Class<?> c) {
     if (c == Object.class) {
       return List.of();
     } else if (c.isPrimitive()) {
@@ -506,14 +553,14 @@ public final class JavaTypes {
     //
     // The raw type C.
     final Class<?> c = erase(p.getRawType());
-    final Type[] typeArguments = p.getActualTypeArguments();
-    final Type directSuperclassType = c.getGenericSuperclass();
+    final ClassMetadata cm = CLASS_METADATA.get(c);
+    // The substitution is performed by the (cached) TypeResolver for
+    // p.
+    final TypeResolver resolver = TypeResolver.of(p);
+    final Type directSuperclassType = cm.genericSuperclass;
     if (directSuperclassType != null) {
       if (directSuperclassType instanceof ParameterizedType dst) {
-        final Class<?> directSuperclassTypeErasure = erase(dst.getRawType());
-        assert directSuperclassTypeErasure.getTypeParameters().length > 0 : "Unexpected empty type parameters";
-        assert typeArguments.length == directSuperclassTypeErasure.getTypeParameters().length;
-        directSupertypes.add(new DefaultParameterizedType(dst.getOwnerType(), directSuperclassTypeErasure, typeArguments));
+        directSupertypes.add(DefaultParameterizedType.of((ParameterizedType)resolver.resolve(dst)));
       } else if (directSuperclassType instanceof Class<?> nonGenericClass) {
         assert nonGenericClass.getTypeParameters().length == 0;
         directSupertypes.add(nonGenericClass);
@@ -521,14 +568,11 @@ public final class JavaTypes {
         throw new AssertionError("Unexpected directSuperclassType: " + directSuperclassType);
       }
     }
-    final Type[] directSuperinterfaceTypes = c.getGenericInterfaces();
+    final Type[] directSuperinterfaceTypes = cm.genericInterfaces; // not cloned; do not modify
     if (directSuperinterfaceTypes.length > 0) {
       for (final Type directSuperinterfaceType : directSuperinterfaceTypes) {
         if (directSuperinterfaceType instanceof ParameterizedType dst) {
-          final Class<?> directSuperinterfaceTypeErasure = erase(dst.getRawType());
-          assert directSuperinterfaceTypeErasure.getTypeParameters().length > 0 : "Unexpected empty type parameters";
-          assert typeArguments.length == directSuperinterfaceTypeErasure.getTypeParameters().length;
-          directSupertypes.add(new DefaultParameterizedType(dst.getOwnerType(), directSuperinterfaceTypeErasure, typeArguments));
+          directSupertypes.add(DefaultParameterizedType.of((ParameterizedType)resolver.resolve(dst)));
         } else if (directSuperinterfaceType instanceof Class<?> nonGenericInterface) {
           assert nonGenericInterface.getTypeParameters().length == 0;
           directSupertypes.add(nonGenericInterface);
@@ -544,6 +588,18 @@ public final class JavaTypes {
     return Collections.unmodifiableCollection(directSupertypes);
   }
 
+  // Returns the generic superclass of the supplied Class, as recorded
+  // by its (possibly archived) metadata.
+  static final Type genericSuperclass(final Class<?> c) {
+    return CLASS_METADATA.get(c).genericSuperclass;
+  }
+
+  // Returns the generic interfaces of the supplied Class, as recorded
+  // by its (possibly archived) metadata.  Not cloned; do not modify.
+  static final Type[] genericInterfaces(final Class<?> c) {
+    return CLASS_METADATA.get(c).genericInterfaces;
+  }
+
   private static final Collection<Type> directSupertypes(final GenericArrayType g) {
     final Collection<? extends Type> genericComponentTypeDirectSupertypes = directSupertypes(g.getGenericComponentType());
     final Collection<Type> returnValue = new ArrayList<>(genericComponentTypeDirectSupertypes.size());
@@ -596,7 +652,27 @@ public final class JavaTypes {
    * threads.
    */
   public static final Collection<Type> supertypes(final Type type) {
-    return supertypes0(type, new HashSet<>()::add);
+    final SupertypesEvent event = new SupertypesEvent();
+    if (!event.isEnabled()) {
+      return cachedSupertypes(type);
+    }
+    event.begin();
+    final Collection<Type> supertypes = cachedSupertypes(type);
+    event.end();
+    if (event.shouldCommit()) {
+      event.type = toString(type);
+      event.typeClass = type.getClass();
+      event.supertypes = supertypes.size();
+      event.commit();
+    }
+    return supertypes;
+  }
+
+  private static final Collection<Type> cachedSupertypes(final Type type) {
+    if (Objects.requireNonNull(type) instanceof Class<?> c) {
+      return CLASS_METADATA.get(c).supertypes(c);
+    }
+    return SUPERTYPES_CACHE.computeIfAbsent(new SupertypesKey(type), k -> computeSupertypes(k.type));
   }
 
   /**
@@ -612,6 +688,10 @@ public final class JavaTypes {
    * elements but is not guaranteed to be a {@link Set}
    * implementation.</p>
    *
+   * <p>The returned {@link Collection} is computed on each invocation
+   * by filtering the (cached) {@linkplain #supertypes(Type)
+   * supertypes} of the supplied {@code type}.</p>
+   *
    * @param type the {@link Type} to introspect; must not be {@code
    * null}
    *
@@ -637,8 +717,9 @@ public final class JavaTypes {
    * threads.
    */
   public static final Collection<Type> supertypes(final Type type, final Predicate<? super Type> acceptancePredicate) {
+    Objects.requireNonNull(acceptancePredicate, "acceptancePredicate");
     final ArrayList<Type> c = new ArrayList<>(11);
-    for (final Type st : supertypes(type)) {
+    for (final Type st : cachedSupertypes(type)) {
       if (acceptancePredicate.test(st)) {
         c.add(st);
       }
@@ -647,6 +728,223 @@ public final class JavaTypes {
     return c.isEmpty() ? List.of() : Collections.unmodifiableCollection(c);
   }
 
+  /**
+   * Loads (without initializing) each {@link Class} named by the
+   * supplied {@link Collection} of class names using the supplied
+   * {@link ClassLoader}, and computes and caches its reflective
+   * metadata, its {@linkplain #supertypes(Type) supertypes} and its
+   * {@link TypeResolver}s, in parallel, using threads created for
+   * the purpose and shut down before this method returns, and returns
+   * a {@link PrewarmStatistics} describing the operation.
+   *
+   * <p>This is intended to be called once, early, by applications
+   * that know ahead of time which classes they will introspect, so
+   * that the cost of that introspection is paid up front and in
+   * parallel rather than on first use.</p>
+   *
+   * <p>Classes that cannot be loaded or introspected do not cause
+   * this method to fail; they are instead reported by the {@link
+   * PrewarmStatistics#failures()} method.</p>
+   *
+   * <p>Loading is usually blocking I/O and introspection is usually
+   * brief.  If the runtime supports virtual threads (i.e. if it has a
+   * usable {@code Executors#newVirtualThreadPerTaskExecutor()}
+   * method, which is looked up reflectively), each class is loaded on
+   * its own virtual thread.  Otherwise a fixed pool of daemon
+   * platform threads is used, the number of which is deliberately
+   * larger than the number of available processors.</p>
+   *
+   * @param classLoader the {@link ClassLoader} to load classes with;
+   * may be {@code null} in which case the bootstrap class loader will
+   * be used
+   *
+   * @param classNames a {@link Collection} of {@linkplain
+   * Class#getName() binary class names}; must not be {@code null} and
+   * must not contain {@code null} elements; duplicate elements are
+   * ignored
+   *
+   * @return a {@link PrewarmStatistics}; never {@code null}
+   *
+   * @exception NullPointerException if {@code classNames} is {@code
+   * null} or contains {@code null} elements
+   *
+   * @exception java.util.concurrent.CompletionException if an
+   * unexpected error occurred
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent but not deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #prewarm(ClassLoader, Collection, Executor)
+   */
+  @Convenience
+  @Experimental
+  public static final PrewarmStatistics prewarm(final ClassLoader classLoader, final Collection<? extends String> classNames) {
+    final int size = classNames.size();
+    if (size <= 0) {
+      return prewarm(classLoader, classNames, Runnable::run).join();
+    }
+    final ExecutorService executor = prewarmExecutor(size);
+    try {
+      return prewarm(classLoader, classNames, executor).join();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static final ExecutorService prewarmExecutor(final int size) {
+    if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null) {
+      try {
+        return (ExecutorService)NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+      } catch (final UnsupportedOperationException e) {
+        // Virtual threads are a preview feature in this runtime and
+        // preview features are not enabled; fall through.
+      } catch (final RuntimeException | Error e) {
+        throw e;
+      } catch (final Throwable e) {
+        throw new AssertionError(e.getMessage(), e);
+      }
+    }
+    final AtomicInteger threadNumber = new AtomicInteger();
+    return
+      Executors.newFixedThreadPool(Math.min(size, Math.max(2, 2 * Runtime.getRuntime().availableProcessors())),
+                                   r -> {
+                                     final Thread t = new Thread(r, JavaTypes.class.getName() + ".prewarm-" + threadNumber.incrementAndGet());
+                                     t.setDaemon(true);
+                                     return t;
+                                   });
+  }
+
+  private static final MethodHandle newVirtualThreadPerTaskExecutor() {
+    try {
+      return
+        MethodHandles.publicLookup().findStatic(Executors.class,
+                                                "newVirtualThreadPerTaskExecutor",
+                                                MethodType.methodType(ExecutorService.class));
+    } catch (final NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Loads (without initializing) each {@link Class} named by the
+   * supplied {@link Collection} of class names using the supplied
+   * {@link ClassLoader}, and computes and caches its reflective
+   * metadata, its {@linkplain #supertypes(Type) supertypes} and its
+   * {@link TypeResolver}s, with one task per class submitted to the
+   * supplied {@link Executor}, and returns a {@link
+   * CompletableFuture} that will complete with a {@link
+   * PrewarmStatistics} describing the operation once all tasks have
+   * finished.
+   *
+   * <p>Classes that cannot be loaded or introspected do not cause
+   * the returned {@link CompletableFuture} to complete exceptionally;
+   * they are instead reported by the {@link
+   * PrewarmStatistics#failures()} method.</p>
+   *
+   * <p>Supertype closures of {@link Class}es are retained for as long
+   * as their {@link Class}es are.  Other cached information, such as
+   * the supertype closures of {@link ParameterizedType}s, is held in
+   * bounded caches and so may be evicted by later activity.</p>
+   *
+   * @param classLoader the {@link ClassLoader} to load classes with;
+   * may be {@code null} in which case the bootstrap class loader will
+   * be used
+   *
+   * @param classNames a {@link Collection} of {@linkplain
+   * Class#getName() binary class names}; must not be {@code null} and
+   * must not contain {@code null} elements; duplicate elements are
+   * ignored
+   *
+   * @param executor the {@link Executor} to run tasks with; must not
+   * be {@code null}
+   *
+   * @return a {@link CompletableFuture}; never {@code null}
+   *
+   * @exception NullPointerException if {@code classNames} or {@code
+   * executor} is {@code null}, or if {@code classNames} contains
+   * {@code null} elements
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent but not deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  @Experimental
+  public static final CompletableFuture<PrewarmStatistics> prewarm(final ClassLoader classLoader,
+                                                                   final Collection<? extends String> classNames,
+                                                                   final Executor executor) {
+    Objects.requireNonNull(executor, "executor");
+    final Set<String> names = new LinkedHashSet<>(classNames);
+    for (final String name : names) {
+      Objects.requireNonNull(name, "classNames contains null");
+    }
+    final long supertypesCacheHits = SUPERTYPES_CACHE.hits();
+    final long supertypesCacheMisses = SUPERTYPES_CACHE.misses();
+    final long resolverCacheHits = TypeResolver.cache().hits();
+    final long resolverCacheMisses = TypeResolver.cache().misses();
+    final Map<String, Throwable> failures = new ConcurrentHashMap<>();
+    final LongAdder loaded = new LongAdder();
+    final LongAdder supertypes = new LongAdder();
+    final LongAdder loading = new LongAdder();
+    final LongAdder supertypeComputation = new LongAdder();
+    final long start = System.nanoTime();
+    final CompletableFuture<?>[] tasks = new CompletableFuture<?>[names.size()];
+    int i = 0;
+    for (final String name : names) {
+      tasks[i++] = CompletableFuture.runAsync(() -> {
+          long time = System.nanoTime();
+          final Class<?> c;
+          try {
+            c = Class.forName(name, false, classLoader);
+          } catch (final ClassNotFoundException | LinkageError e) {
+            failures.put(name, e);
+            return;
+          } finally {
+            loading.add(System.nanoTime() - time);
+          }
+          time = System.nanoTime();
+          try {
+            final Collection<Type> sts = supertypes(c);
+            for (final Type st : sts) {
+              if (st instanceof ParameterizedType) {
+                supertypes(st);
+                TypeResolver.of(st);
+              }
+            }
+            TypeResolver.of(c);
+            supertypes.add(sts.size());
+            loaded.increment();
+          } catch (final RuntimeException | LinkageError e) {
+            failures.put(name, e);
+          } finally {
+            supertypeComputation.add(System.nanoTime() - time);
+          }
+        }, executor);
+    }
+    return CompletableFuture.allOf(tasks)
+      .thenApply(v -> new PrewarmStatistics(names.size(),
+                                            loaded.intValue(),
+                                            failures,
+                                            supertypes.sum(),
+                                            Duration.ofNanos(System.nanoTime() - start),
+                                            Duration.ofNanos(loading.sum()),
+                                            Duration.ofNanos(supertypeComputation.sum()),
+                                            SUPERTYPES_CACHE.hits() - supertypesCacheHits,
+                                            SUPERTYPES_CACHE.misses() - supertypesCacheMisses,
+                                            TypeResolver.cache().hits() - resolverCacheHits,
+                                            TypeResolver.cache().misses() - resolverCacheMisses));
+  }
+
+  private static final Collection<Type> computeSupertypes(final Type type) {
+    return supertypes0(type, new HashSet<>()::add);
+  }
+
   private static final Collection<Type> supertypes0(final Type type, final Predicate<? super JavaType> unseen) {
     if (unseen.test(JavaType.of(type))) {
       final ArrayList<Type> supertypes = new ArrayList<>(11);
@@ -763,16 +1061,61 @@ public final class JavaTypes {
         // Easy optimization
         return supC.isAssignableFrom(subC);
       } else {
-        for (final Type supertype : supertypes(sub, acceptancePredicate)) {
-          if (equals(supertype, sup)) {
-            return true;
+        final Class<?> supErasure = erase(sup);
+        if (supErasure == null) {
+          for (final Type supertype : supertypes(sub, acceptancePredicate)) {
+            if (equals(supertype, sup)) {
+              return true;
+            }
           }
+        } else {
+          return supertype(sup, supErasure, sub, acceptancePredicate);
+        }
+      }
+    }
+    return false;
+  }
+
+  // Searches the supertypes of sub, breadth first, for one equal to
+  // sup, without computing (or caching) the whole supertype closure.
+  // Every supertype on a path from sub to sup is itself a subtype of
+  // sup, and so (unless it is a type variable, whose erasure is the
+  // erasure of its leftmost bound only) has an erasure assignable to
+  // supErasure; any direct supertype whose erasure is not can be
+  // skipped together with all of its own supertypes.
+  private static final boolean supertype(final Type sup,
+                                         final Class<?> supErasure,
+                                         final Type sub,
+                                         final Predicate<? super Type> acceptancePredicate) {
+    if (!(sub instanceof WildcardType) && !mayLeadTo(supErasure, sub)) {
+      return false;
+    }
+    final Set<JavaType> seen = new HashSet<>();
+    final ArrayDeque<Type> q = new ArrayDeque<>(8);
+    seen.add(JavaType.of(sub));
+    q.add(sub);
+    while (!q.isEmpty()) {
+      final Type t = q.remove();
+      if (equals(t, sup) && acceptancePredicate.test(t)) {
+        return true;
+      }
+      for (final Type ds : directSupertypes(t)) {
+        if (mayLeadTo(supErasure, ds) && seen.add(JavaType.of(ds))) {
+          q.add(ds);
         }
       }
     }
     return false;
   }
 
+  private static final boolean mayLeadTo(final Class<?> supErasure, final Type t) {
+    if (t instanceof TypeVariable) {
+      return true;
+    }
+    final Class<?> erasure = erase(t);
+    return erasure == null || supErasure.isAssignableFrom(erasure);
+  }
+
   private static final Type array(final Type type) {
     // https://docs.oracle.com/javase/specs/jls/se11/html/jls-10.html#jls-10.1
     // 10.1 Array Types
@@ -948,7 +1291,7 @@ public final class JavaTypes {
     // leftmost bound.  [WildcardTypes aren't really in the JLS per se
     // but they behave like type variables. Only upper bounds will
     // matter here.]
-    final Type[] bounds = type.getUpperBounds();
+    final Type[] bounds = upperBounds(type); // not cloned; do not modify
     return bounds != null && bounds.length > 0 ? erase(bounds[0]) : Object.class;
   }
 
@@ -998,11 +1341,9 @@ public final class JavaTypes {
     } else if (ts0 == ts1) {
       return true;
     } else if (ts0.length == ts1.length) {
-      for (final Type t0 : ts0) {
-        for (final Type t1 : ts1) {
-          if (!equals(t0, t1)) {
-            return false;
-          }
+      for (int i = 0; i < ts0.length; i++) {
+        if (!equals(ts0[i], ts1[i])) {
+          return false;
         }
       }
       return true;
@@ -1026,7 +1367,7 @@ public final class JavaTypes {
       return
         equals(pt0.getOwnerType(), pt1.getOwnerType()) &&
         equals(pt0.getRawType(), pt1.getRawType()) &&
-        equals(pt0.getActualTypeArguments(), pt1.getActualTypeArguments());
+        equals(actualTypeArguments(pt0), actualTypeArguments(pt1));
     }
   }
 
@@ -1105,8 +1446,8 @@ public final class JavaTypes {
       return true;
     } else {
       return
-        equals(w0.getLowerBounds(), w1.getLowerBounds()) &&
-        equals(w0.getUpperBounds(), w1.getUpperBounds());
+        equals(lowerBounds(w0), lowerBounds(w1)) &&
+        equals(upperBounds(w0), upperBounds(w1));
     }
   }
 
@@ -1150,7 +1491,7 @@ public final class JavaTypes {
     if (type == null) {
       return 0;
     } else {
-      return Arrays.hashCode(type.getActualTypeArguments()) ^ hashCode(type.getOwnerType()) ^ hashCode(type.getRawType());
+      return Arrays.hashCode(actualTypeArguments(type)) ^ hashCode(type.getOwnerType()) ^ hashCode(type.getRawType());
     }
   }
 
@@ -1163,7 +1504,29 @@ public final class JavaTypes {
   }
 
   private static final int hashCode(final WildcardType type) {
-    return type == null ? 0 : Arrays.hashCode(type.getUpperBounds()) ^ Arrays.hashCode(type.getLowerBounds());
+    return type == null ? 0 : Arrays.hashCode(upperBounds(type)) ^ Arrays.hashCode(lowerBounds(type));
+  }
+
+  // Returns the actual type arguments of the supplied
+  // ParameterizedType without cloning them when it is one of this
+  // library's own implementations.  The return value must not be
+  // modified.
+  private static final Type[] actualTypeArguments(final ParameterizedType p) {
+    return p instanceof DefaultParameterizedType dpt ? dpt.actualTypeArguments() : p.getActualTypeArguments();
+  }
+
+  // Returns the upper bounds of the supplied WildcardType without
+  // cloning them when it is one of this library's own
+  // implementations.  The return value must not be modified.
+  private static final Type[] upperBounds(final WildcardType w) {
+    return w instanceof AbstractWildcardType awt ? awt.upperBounds() : w.getUpperBounds();
+  }
+
+  // Returns the lower bounds of the supplied WildcardType without
+  // cloning them when it is one of this library's own
+  // implementations.  The return value must not be modified.
+  private static final Type[] lowerBounds(final WildcardType w) {
+    return w instanceof AbstractWildcardType awt ? awt.lowerBounds() : w.getLowerBounds();
   }
 
   /**
@@ -1226,7 +1589,7 @@ public final class JavaTypes {
           sb.append(toString(rawType));
         }
       }
-      final Type[] actualTypeArguments = ptype.getActualTypeArguments();
+      final Type[] actualTypeArguments = actualTypeArguments(ptype); // not cloned; do not modify
       if (actualTypeArguments != null && actualTypeArguments.length > 0) {
         final StringJoiner stringJoiner = new StringJoiner(", ", "<", ">");
         stringJoiner.setEmptyValue("");
@@ -1256,10 +1619,10 @@ public final class JavaTypes {
       return "null";
     } else {
       final StringBuilder sb = new StringBuilder("?");
-      Type[] bounds = wc.getLowerBounds();
+      Type[] bounds = lowerBounds(wc); // not cloned; do not modify
       if (bounds == null || bounds.length <= 0) {
         // Upper bounds only.
-        bounds = wc.getUpperBounds();
+        bounds = upperBounds(wc);
         if (bounds == null || bounds.length <= 0 || Object.class.equals(bounds[0])) {
           bounds = null;
         } else {
@@ -1715,4 +2078,76 @@ public final class JavaTypes {
     return Optional.empty();
   }
 
+
+  /*
+   * Inner and nested classes.
+   */
+
+
+  private static final class ClassMetadata {
+
+    private static final VarHandle SUPERTYPES;
+
+    static {
+      try {
+        SUPERTYPES = MethodHandles.lookup().findVarHandle(ClassMetadata.class, "supertypes", Collection.class);
+      } catch (final NoSuchFieldException | IllegalAccessException reflectiveOperationException) {
+        throw (Error)new ExceptionInInitializerError(reflectiveOperationException.getMessage()).initCause(reflectiveOperationException);
+      }
+    }
+
+    private final Type genericSuperclass;
+
+    private final Type[] genericInterfaces;
+
+    private final Collection<? extends Type> directSupertypes;
+
+    private volatile Collection<Type> supertypes;
+
+    private ClassMetadata(final Class<?> c) {
+      super();
+      this.genericSuperclass = c.getGenericSuperclass();
+      final Type[] genericInterfaces = c.getGenericInterfaces();
+      this.genericInterfaces = genericInterfaces.length == 0 ? EMPTY_TYPE_ARRAY : genericInterfaces;
+      this.directSupertypes = computeDirectSupertypes(c);
+    }
+
+    private final Collection<Type> supertypes(final Class<?> c) {
+      final Collection<Type> supertypes = this.supertypes; // volatile read
+      return supertypes == null ? SingleFlight.get(this, SUPERTYPES, () -> computeSupertypes(c)) : supertypes;
+    }
+
+  }
+
+  private static final class SupertypesKey {
+
+    private final Type type;
+
+    private final int hashCode;
+
+    private SupertypesKey(final Type type) {
+      super();
+      this.type = type;
+      this.hashCode = JavaTypes.hashCode(type);
+    }
+
+    @Override // Object
+    public final int hashCode() {
+      return this.hashCode;
+    }
+
+    @Override // Object
+    public final boolean equals(final Object other) {
+      if (other == this) {
+        return true;
+      } else if (other != null && other.getClass() == this.getClass()) {
+        final SupertypesKey her = (SupertypesKey)other;
+        return JavaTypes.equals(this.type, her.type);
+      } else {
+        return false;
+      }
+    }
+
+  }
+
 }
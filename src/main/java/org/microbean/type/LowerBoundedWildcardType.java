@@ -105,7 +105,7 @@ public final class LowerBoundedWildcardType extends AbstractWildcardType impleme
 
   @Override // Constable
   public final Optional<? extends ConstantDesc> describeConstable() {
-    final Type[] lowerBounds = this.getLowerBounds();
+    final Type[] lowerBounds = this.lowerBounds(); // not cloned; do not modify
     final int bsmInvokeArgumentsLength = lowerBounds.length + 1;
     final ConstantDesc[] bsmInvokeArguments = new ConstantDesc[bsmInvokeArgumentsLength];
     bsmInvokeArguments[0] = MethodHandleDesc.ofConstructor(CD_LowerBoundedWildcardType, CD_Type.arrayType());
@@ -0,0 +1,311 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.time.Duration;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.microbean.development.annotation.Experimental;
+
+/**
+ * An immutable summary of a warm-up of the type metadata caches
+ * performed by the {@link JavaTypes#prewarm(ClassLoader, java.util.Collection)}
+ * or {@link JavaTypes#prewarm(ClassLoader, java.util.Collection,
+ * java.util.concurrent.Executor)} methods.
+ *
+ * <p>Durations reported by the {@link #loading()} and {@link
+ * #supertypeComputation()} methods are summed across all the threads
+ * that performed the warm-up, and so may exceed the {@linkplain
+ * #elapsed() elapsed time}; the extent to which they do is a measure
+ * of the parallelism achieved.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ *
+ * @see JavaTypes#prewarm(ClassLoader, java.util.Collection)
+ */
+@Experimental
+public final class PrewarmStatistics {
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  private final int classes;
+
+  private final int loaded;
+
+  private final Map<String, Throwable> failures;
+
+  private final long supertypes;
+
+  private final Duration elapsed;
+
+  private final Duration loading;
+
+  private final Duration supertypeComputation;
+
+  private final long supertypesCacheHits;
+
+  private final long supertypesCacheMisses;
+
+  private final long resolverCacheHits;
+
+  private final long resolverCacheMisses;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  PrewarmStatistics(final int classes,
+                    final int loaded,
+                    final Map<String, Throwable> failures,
+                    final long supertypes,
+                    final Duration elapsed,
+                    final Duration loading,
+                    final Duration supertypeComputation,
+                    final long supertypesCacheHits,
+                    final long supertypesCacheMisses,
+                    final long resolverCacheHits,
+                    final long resolverCacheMisses) {
+    super();
+    this.classes = classes;
+    this.loaded = loaded;
+    this.failures = Collections.unmodifiableMap(new TreeMap<>(failures));
+    this.supertypes = supertypes;
+    this.elapsed = elapsed;
+    this.loading = loading;
+    this.supertypeComputation = supertypeComputation;
+    this.supertypesCacheHits = supertypesCacheHits;
+    this.supertypesCacheMisses = supertypesCacheMisses;
+    this.resolverCacheHits = resolverCacheHits;
+    this.resolverCacheMisses = resolverCacheMisses;
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Returns the number of distinct class names that were supplied.
+   *
+   * @return the number of distinct class names that were supplied
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final int classes() {
+    return this.classes;
+  }
+
+  /**
+   * Returns the number of classes that were loaded and whose metadata
+   * was cached successfully.
+   *
+   * @return the number of classes that were warmed up successfully
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final int loaded() {
+    return this.loaded;
+  }
+
+  /**
+   * Returns an immutable {@link Map} of the exceptions or errors that
+   * prevented the warm-up of particular classes, indexed by class
+   * name, in name order.
+   *
+   * @return an immutable {@link Map} of failures; never {@code null};
+   * usually {@linkplain Map#isEmpty() empty}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final Map<String, Throwable> failures() {
+    return this.failures;
+  }
+
+  /**
+   * Returns the sum of the sizes of the supertype closures computed
+   * for the classes that were warmed up successfully.
+   *
+   * @return the sum of the sizes of the supertype closures computed
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final long supertypes() {
+    return this.supertypes;
+  }
+
+  /**
+   * Returns the wall-clock time the warm-up took.
+   *
+   * @return the wall-clock time the warm-up took; never {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final Duration elapsed() {
+    return this.elapsed;
+  }
+
+  /**
+   * Returns the time spent loading classes, summed across threads.
+   *
+   * @return the time spent loading classes; never {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final Duration loading() {
+    return this.loading;
+  }
+
+  /**
+   * Returns the time spent computing and caching reflective metadata
+   * and supertype closures, summed across threads.
+   *
+   * @return the time spent computing and caching metadata; never
+   * {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final Duration supertypeComputation() {
+    return this.supertypeComputation;
+  }
+
+  /**
+   * Returns the number of hits recorded during the warm-up by the
+   * cache of supertype closures of types that are not classes.
+   *
+   * <p>Other activity in the same JVM during the warm-up is included
+   * in this figure.</p>
+   *
+   * @return the number of supertypes cache hits
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final long supertypesCacheHits() {
+    return this.supertypesCacheHits;
+  }
+
+  /**
+   * Returns the number of misses recorded during the warm-up by the
+   * cache of supertype closures of types that are not classes.
+   *
+   * <p>Other activity in the same JVM during the warm-up is included
+   * in this figure.</p>
+   *
+   * @return the number of supertypes cache misses
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final long supertypesCacheMisses() {
+    return this.supertypesCacheMisses;
+  }
+
+  /**
+   * Returns the number of hits recorded during the warm-up by the
+   * cache of {@link TypeResolver}s for parameterized types.
+   *
+   * <p>Other activity in the same JVM during the warm-up is included
+   * in this figure.</p>
+   *
+   * @return the number of resolver cache hits
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final long resolverCacheHits() {
+    return this.resolverCacheHits;
+  }
+
+  /**
+   * Returns the number of misses recorded during the warm-up by the
+   * cache of {@link TypeResolver}s for parameterized types.
+   *
+   * <p>Other activity in the same JVM during the warm-up is included
+   * in this figure.</p>
+   *
+   * @return the number of resolver cache misses
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final long resolverCacheMisses() {
+    return this.resolverCacheMisses;
+  }
+
+  @Override // Object
+  public final String toString() {
+    return
+      "classes: " + this.classes +
+      "; loaded: " + this.loaded +
+      "; failures: " + this.failures.keySet() +
+      "; supertypes: " + this.supertypes +
+      "; elapsed: " + this.elapsed +
+      "; loading: " + this.loading +
+      "; supertypeComputation: " + this.supertypeComputation +
+      "; supertypesCache: " + this.supertypesCacheHits + "/" + this.supertypesCacheMisses +
+      "; resolverCache: " + this.resolverCacheHits + "/" + this.resolverCacheMisses;
+  }
+
+}
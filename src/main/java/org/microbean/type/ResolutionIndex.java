@@ -0,0 +1,403 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.VarHandle;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.microbean.development.annotation.Experimental;
+
+import org.microbean.type.Type.CdiSemantics;
+import org.microbean.type.Type.Semantics;
+
+/**
+ * An index of registrants, each associated with a {@link
+ * Collection} of bean types, that efficiently answers the question
+ * "which registrants have at least one bean type {@linkplain
+ * Semantics#assignable(Type, Type) assignable} to a given required
+ * type?"
+ *
+ * <p>Bean types are indexed by the {@linkplain JavaTypes#erase(java.lang.reflect.Type)
+ * erasures} of their {@linkplain Type#supertypes() supertypes}, so a
+ * lookup considers only those registrants that could possibly
+ * satisfy the required type, and then refines them using the {@link
+ * Semantics} supplied at construction time.  Indexing is used only
+ * when the {@link Semantics} {@linkplain
+ * Semantics#erasureMatchRequired() permits it}; otherwise every
+ * registrant is a candidate.</p>
+ *
+ * <p>Lookups read an immutable snapshot of the index and never
+ * block.  Registrations publish a new snapshot by copying the
+ * portions of the index they change, so a registration costs time
+ * proportional to the number of distinct erasures in the index;
+ * registering in bulk via {@link #registerAll(Map)} amortizes this
+ * cost.</p>
+ *
+ * @param <R> the type of registrant
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ *
+ * @see #resolve(java.lang.reflect.Type)
+ *
+ * @see Type.CdiSemantics
+ */
+@Experimental
+public final class ResolutionIndex<R> {
+
+
+  /*
+   * Static fields.
+   */
+
+
+  private static final VarHandle SNAPSHOT;
+
+  static {
+    final Lookup lookup = MethodHandles.lookup();
+    try {
+      SNAPSHOT = lookup.findVarHandle(ResolutionIndex.class, "snapshot", Snapshot.class);
+    } catch (final NoSuchFieldException | IllegalAccessException reflectiveOperationException) {
+      throw (Error)new ExceptionInInitializerError(reflectiveOperationException.getMessage()).initCause(reflectiveOperationException);
+    }
+  }
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  private final Semantics semantics;
+
+  private final boolean box;
+
+  private final boolean indexed;
+
+  private volatile Snapshot<R> snapshot;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  /**
+   * Creates a new {@link ResolutionIndex} that uses {@link
+   * CdiSemantics#INSTANCE}.
+   *
+   * @see #ResolutionIndex(Semantics)
+   */
+  public ResolutionIndex() {
+    this(CdiSemantics.INSTANCE);
+  }
+
+  /**
+   * Creates a new {@link ResolutionIndex}.
+   *
+   * @param semantics the {@link Semantics} used to refine candidate
+   * registrants; must not be {@code null}
+   *
+   * @exception NullPointerException if {@code semantics} is {@code
+   * null}
+   */
+  public ResolutionIndex(final Semantics semantics) {
+    super();
+    this.semantics = Objects.requireNonNull(semantics, "semantics");
+    this.box = semantics.boxing(false);
+    this.indexed = semantics.erasureMatchRequired();
+    this.snapshot = new Snapshot<>();
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Registers the supplied {@code registrant} with the supplied bean
+   * types.
+   *
+   * <p>The same registrant may be registered more than once; each
+   * registration is treated independently.</p>
+   *
+   * @param registrant the registrant; must not be {@code null}
+   *
+   * @param beanTypes the bean types of the registrant; must not be
+   * {@code null} or contain {@code null} elements
+   *
+   * @exception NullPointerException if either argument is {@code
+   * null}, or if {@code beanTypes} contains {@code null} elements
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #registerAll(Map)
+   */
+  public final void register(final R registrant, final Collection<? extends java.lang.reflect.Type> beanTypes) {
+    this.registerAll(Map.of(registrant, beanTypes));
+  }
+
+  /**
+   * Registers each key of the supplied {@link Map} with the bean
+   * types to which it is mapped, in the {@link Map}'s iteration
+   * order, publishing a single new snapshot.
+   *
+   * @param registrations the registrations; must not be {@code null}
+   * or contain {@code null} keys or values, and its values must not
+   * contain {@code null} elements
+   *
+   * @exception NullPointerException if {@code registrations} is
+   * {@code null} or contains {@code null} keys or values, or if any
+   * of its values contains {@code null} elements
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #register(Object, Collection)
+   */
+  public final void registerAll(final Map<? extends R, ? extends Collection<? extends java.lang.reflect.Type>> registrations) {
+    if (registrations.isEmpty()) {
+      return;
+    }
+    // Do the expensive work (supertype closures) outside the
+    // publication loop.
+    final List<Pending<R>> pending = new ArrayList<>(registrations.size());
+    for (final Map.Entry<? extends R, ? extends Collection<? extends java.lang.reflect.Type>> entry : registrations.entrySet()) {
+      pending.add(this.pending(Objects.requireNonNull(entry.getKey(), "registrant"),
+                               Objects.requireNonNull(entry.getValue(), "beanTypes")));
+    }
+    Snapshot<R> snapshot;
+    do {
+      snapshot = this.snapshot; // volatile read
+    } while (!SNAPSHOT.compareAndSet(this, snapshot, snapshot.plus(pending))); // volatile write
+  }
+
+  /**
+   * Returns the number of registrations in this {@link
+   * ResolutionIndex}.
+   *
+   * @return the number of registrations in this {@link
+   * ResolutionIndex}
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final int size() {
+    return this.snapshot.registrations.size(); // volatile read
+  }
+
+  /**
+   * Returns an immutable {@link List} of registrants, in registration
+   * order, at least one of whose bean types is {@linkplain
+   * Semantics#assignable(Type, Type) assignable} to the supplied
+   * {@code requiredType}.
+   *
+   * <p>A registrant that was registered more than once appears once
+   * for each matching registration.</p>
+   *
+   * @param requiredType the required type; must not be {@code null}
+   *
+   * @return an immutable {@link List} of matching registrants; never
+   * {@code null}
+   *
+   * @exception NullPointerException if {@code requiredType} is {@code
+   * null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic with
+   * respect to a given snapshot of this {@link ResolutionIndex}.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final List<R> resolve(final java.lang.reflect.Type requiredType) {
+    final JavaType receiverType = JavaType.of(this.box, Objects.requireNonNull(requiredType, "requiredType"));
+    final Snapshot<R> snapshot = this.snapshot; // volatile read
+    final List<Registration<R>> candidates;
+    if (this.indexed && Semantics.erasureFilterable(receiverType)) {
+      candidates =
+        merge(snapshot.index.getOrDefault(JavaTypes.erase(receiverType.object()), List.of()), snapshot.unindexed);
+    } else {
+      candidates = snapshot.registrations;
+    }
+    if (candidates.isEmpty()) {
+      return List.of();
+    }
+    final List<R> registrants = new ArrayList<>(candidates.size());
+    for (final Registration<R> candidate : candidates) {
+      for (final JavaType beanType : candidate.beanTypes) {
+        if (this.semantics.assignable(receiverType, beanType)) {
+          registrants.add(candidate.registrant);
+          break;
+        }
+      }
+    }
+    return Collections.unmodifiableList(registrants);
+  }
+
+  private final Pending<R> pending(final R registrant, final Collection<? extends java.lang.reflect.Type> beanTypes) {
+    final List<JavaType> javaTypes = new ArrayList<>(beanTypes.size());
+    Set<Class<?>> erasures = this.indexed ? new LinkedHashSet<>() : null;
+    for (final java.lang.reflect.Type beanType : beanTypes) {
+      final JavaType javaType = JavaType.canonical(this.box, Objects.requireNonNull(beanType, "beanType"));
+      javaTypes.add(javaType);
+      if (erasures != null) {
+        if (Semantics.erasureFilterable(javaType)) {
+          for (final Type<java.lang.reflect.Type> supertype : javaType.supertypes()) {
+            erasures.add(JavaTypes.erase(supertype.object()));
+          }
+        } else {
+          // Can't be indexed; always a candidate.
+          erasures = null;
+        }
+      }
+    }
+    return new Pending<>(registrant, List.copyOf(javaTypes), erasures);
+  }
+
+
+  /*
+   * Static methods.
+   */
+
+
+  private static final <R> List<Registration<R>> merge(final List<Registration<R>> a, final List<Registration<R>> b) {
+    if (b.isEmpty()) {
+      return a;
+    } else if (a.isEmpty()) {
+      return b;
+    }
+    final List<Registration<R>> merged = new ArrayList<>(a.size() + b.size());
+    int i = 0;
+    int j = 0;
+    while (i < a.size() && j < b.size()) {
+      merged.add(a.get(i).ordinal < b.get(j).ordinal ? a.get(i++) : b.get(j++));
+    }
+    merged.addAll(a.subList(i, a.size()));
+    merged.addAll(b.subList(j, b.size()));
+    return merged;
+  }
+
+
+  /*
+   * Inner and nested classes.
+   */
+
+
+  private static final class Pending<R> {
+
+    private final R registrant;
+
+    private final List<JavaType> beanTypes;
+
+    // null if the registration cannot be indexed
+    private final Set<Class<?>> erasures;
+
+    private Pending(final R registrant, final List<JavaType> beanTypes, final Set<Class<?>> erasures) {
+      super();
+      this.registrant = registrant;
+      this.beanTypes = beanTypes;
+      this.erasures = erasures;
+    }
+
+  }
+
+  private static final class Registration<R> {
+
+    private final int ordinal;
+
+    private final R registrant;
+
+    private final List<JavaType> beanTypes;
+
+    private Registration(final int ordinal, final Pending<R> pending) {
+      super();
+      this.ordinal = ordinal;
+      this.registrant = pending.registrant;
+      this.beanTypes = pending.beanTypes;
+    }
+
+  }
+
+  private static final class Snapshot<R> {
+
+    private final List<Registration<R>> registrations;
+
+    private final Map<Class<?>, List<Registration<R>>> index;
+
+    private final List<Registration<R>> unindexed;
+
+    private Snapshot() {
+      this(List.of(), Map.of(), List.of());
+    }
+
+    private Snapshot(final List<Registration<R>> registrations,
+                     final Map<Class<?>, List<Registration<R>>> index,
+                     final List<Registration<R>> unindexed) {
+      super();
+      this.registrations = registrations;
+      this.index = index;
+      this.unindexed = unindexed;
+    }
+
+    private final Snapshot<R> plus(final Collection<? extends Pending<R>> pendings) {
+      final List<Registration<R>> registrations = new ArrayList<>(this.registrations.size() + pendings.size());
+      registrations.addAll(this.registrations);
+      // Only the lists for touched erasures are copied.
+      final Map<Class<?>, List<Registration<R>>> index = new HashMap<>(this.index);
+      final Map<Class<?>, List<Registration<R>>> touched = new HashMap<>();
+      List<Registration<R>> unindexed = null;
+      for (final Pending<R> pending : pendings) {
+        final Registration<R> registration = new Registration<>(registrations.size(), pending);
+        registrations.add(registration);
+        if (pending.erasures == null) {
+          if (unindexed == null) {
+            unindexed = new ArrayList<>(this.unindexed);
+          }
+          unindexed.add(registration);
+        } else {
+          for (final Class<?> erasure : pending.erasures) {
+            touched.computeIfAbsent(erasure, e -> new ArrayList<>(index.getOrDefault(e, List.of()))).add(registration);
+          }
+        }
+      }
+      for (final Map.Entry<Class<?>, List<Registration<R>>> entry : touched.entrySet()) {
+        index.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+      }
+      return
+        new Snapshot<>(Collections.unmodifiableList(registrations),
+                       Collections.unmodifiableMap(index),
+                       unindexed == null ? this.unindexed : Collections.unmodifiableList(unindexed));
+    }
+
+  }
+
+}
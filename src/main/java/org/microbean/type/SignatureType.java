@@ -0,0 +1,943 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.VarHandle;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.TypeVariable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+
+import org.microbean.development.annotation.Experimental;
+
+/**
+ * A {@link Type} that models a Java type as described by class
+ * files, rather than by loaded {@link Class} objects, for use
+ * primarily by a {@link Type.Semantics} instance.
+ *
+ * <p>{@link SignatureType}s are produced by a {@link ClassPath}, which
+ * reads the {@code super_class}, {@code interfaces} and {@code
+ * Signature} items of the class files it finds, and nothing else.
+ * Consequently the {@linkplain #supertypes() supertypes} of a {@link
+ * SignatureType}, and the assignability of one {@link SignatureType}
+ * to another, can be computed without loading, linking or
+ * initializing any class.  The {@link #load(ClassLoader)} method
+ * converts a {@link SignatureType} into a {@link java.lang.reflect.Type
+ * java.lang.reflect.Type} when that is needed.</p>
+ *
+ * <p>The {@linkplain #object() modeled object} of a {@link
+ * SignatureType} is a canonical type signature string in the format
+ * described by the <a
+ * href="https://docs.oracle.com/javase/specs/jvms/se17/html/jvms-4.html#jvms-4.7.9.1"
+ * target="_parent">Java Virtual Machine Specification, section
+ * 4.7.9.1</a>, such as {@code Ljava/util/List<Ljava/lang/String;>;},
+ * with one extension: because a type variable is identified by its
+ * declaration as well as its name, a type variable signature
+ * includes the internal name of its declaring class, separated from
+ * the type variable's name by a period, as in {@code
+ * Tjava/util/List.E;}.  Two {@link SignatureType}s are {@linkplain
+ * #equals(Object) equal} if and only if their signatures are.</p>
+ *
+ * <p>Type variables declared by methods or constructors are not
+ * modeled: any such type variable encountered in a class signature
+ * (which can happen only in the signature of a local or anonymous
+ * class) is treated as though it were declared by the class in whose
+ * signature it appears, with a bound of {@link Object}.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ *
+ * @see ClassPath
+ *
+ * @see Type.Semantics
+ */
+@Experimental
+public final class SignatureType extends Type<String> {
+
+
+  /*
+   * Static fields.
+   */
+
+
+  static final int PRIMITIVE = 0;
+
+  static final int CLASS = 1;
+
+  static final int PARAMETERIZED_TYPE = 2;
+
+  static final int ARRAY = 3;
+
+  static final int TYPE_VARIABLE = 4;
+
+  static final int UNBOUNDED_WILDCARD = 5;
+
+  static final int UPPER_BOUNDED_WILDCARD = 6;
+
+  static final int LOWER_BOUNDED_WILDCARD = 7;
+
+  private static final String OBJECT = "java/lang/Object";
+
+  private static final VarHandle DIRECT_SUPERTYPES;
+
+  static {
+    final Lookup lookup = MethodHandles.lookup();
+    try {
+      DIRECT_SUPERTYPES = lookup.findVarHandle(SignatureType.class, "directSupertypes", List.class);
+    } catch (final NoSuchFieldException | IllegalAccessException reflectiveOperationException) {
+      throw (Error)new ExceptionInInitializerError(reflectiveOperationException.getMessage()).initCause(reflectiveOperationException);
+    }
+  }
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  private final ClassPath classPath;
+
+  private final int sort;
+
+  // The internal name of a class, the name of a type variable, or the
+  // descriptor of a primitive type.
+  private final String name;
+
+  // The internal name of the class declaring a type variable.
+  private final String declaringName;
+
+  // The owner of a parameterized type, if its signature names one.
+  private final SignatureType ownerType;
+
+  private final List<SignatureType> typeArguments;
+
+  // The component type of an array, or the bound of a bounded
+  // wildcard.
+  private final SignatureType componentType;
+
+  private volatile List<SignatureType> directSupertypes;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  SignatureType(final ClassPath classPath,
+                final String signature,
+                final int sort,
+                final String name,
+                final String declaringName,
+                final SignatureType ownerType,
+                final List<SignatureType> typeArguments,
+                final SignatureType componentType) {
+    super(signature);
+    this.classPath = Objects.requireNonNull(classPath, "classPath");
+    this.sort = sort;
+    this.name = name;
+    this.declaringName = declaringName;
+    this.ownerType = ownerType;
+    this.typeArguments = typeArguments;
+    this.componentType = componentType;
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Returns the {@link ClassPath} that produced this {@link
+   * SignatureType}.
+   *
+   * @return the {@link ClassPath} that produced this {@link
+   * SignatureType}; never {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final ClassPath classPath() {
+    return this.classPath;
+  }
+
+  /**
+   * Returns {@code true} if and only if this {@link SignatureType}
+   * represents a Java type that has a name: a primitive type, a
+   * non-generic class or interface, a raw type, an array type whose
+   * element type is one of those, or a type variable.
+   *
+   * @return {@code true} if and only if this {@link SignatureType}
+   * represents a Java type that has a name
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #name()
+   */
+  @Override // Type<String>
+  public final boolean named() {
+    switch (this.sort) {
+    case PRIMITIVE:
+    case CLASS:
+    case TYPE_VARIABLE:
+      return true;
+    case ARRAY:
+      return this.componentType.named() && this.componentType.sort != TYPE_VARIABLE;
+    default:
+      return false;
+    }
+  }
+
+  /**
+   * Returns the name of this {@link SignatureType} if it has one
+   * <strong>or {@code null} if it does not</strong>.
+   *
+   * <p>Names are those that {@link Class#getName()} and {@link
+   * TypeVariable#getName()} would return.</p>
+   *
+   * @return the name of this {@link SignatureType}, or {@code null}
+   *
+   * @nullability This method may, and often will, return {@code
+   * null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  @Override // Type<String>
+  public final String name() {
+    switch (this.sort) {
+    case PRIMITIVE:
+      return primitiveName(this.name.charAt(0));
+    case CLASS:
+      return this.name.replace('/', '.');
+    case TYPE_VARIABLE:
+      return this.name;
+    case ARRAY:
+      return this.named() ? this.object().replace('/', '.') : null;
+    default:
+      return null;
+    }
+  }
+
+  /**
+   * Returns {@code true} if and only if this {@link SignatureType}
+   * represents {@link Object java.lang.Object}.
+   *
+   * @return {@code true} if and only if this {@link SignatureType}
+   * represents {@link Object java.lang.Object}
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  @Override // Type<String>
+  public final boolean top() {
+    return this.sort == CLASS && OBJECT.equals(this.name);
+  }
+
+  /**
+   * Returns a {@link SignatureType} whose {@linkplain #object()
+   * modeled object} is the supplied signature, produced by this
+   * {@link SignatureType}'s {@linkplain #classPath() class path}.
+   *
+   * @param signature a signature in the format described in the
+   * {@linkplain SignatureType class documentation}; must not be
+   * {@code null}
+   *
+   * @return a {@link SignatureType}; never {@code null}
+   *
+   * @exception NullPointerException if {@code signature} is {@code
+   * null}
+   *
+   * @exception IllegalArgumentException if {@code signature} is
+   * malformed
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see ClassPath#parse(String)
+   */
+  @Override // Type<String>
+  public final SignatureType withObject(final String signature) {
+    return this.classPath.parse(signature);
+  }
+
+  /**
+   * Returns the raw type of this {@link SignatureType} if it
+   * represents a parameterized type, its component type if it
+   * represents a generic array type, or {@code this} in all other
+   * cases.
+   *
+   * @return a suitable {@link SignatureType}; never {@code null};
+   * often {@code this}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  @Override // Type<String>
+  public final SignatureType type() {
+    switch (this.sort) {
+    case PARAMETERIZED_TYPE:
+      return this.classPath.classType(this.name);
+    case ARRAY:
+      return this.named() ? this : this.componentType;
+    default:
+      return this;
+    }
+  }
+
+  /**
+   * Returns the owner of this {@link SignatureType}, or {@code null}
+   * if there is no such owner.
+   *
+   * <p>The owner of a class or interface is the class that encloses
+   * it, if any.  The owner of a parameterized type is the owner named
+   * by its signature, if any, or the class of which its raw type is a
+   * member, if any.  The owner of a type variable is the class that
+   * declares it.</p>
+   *
+   * @return the owner of this {@link SignatureType}, or {@code null}
+   *
+   * @exception TypeNotPresentException if the class file of a
+   * relevant class could not be found
+   *
+   * @nullability This method may return {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  @Override // Type<String>
+  public final SignatureType owner() {
+    final String ownerName;
+    switch (this.sort) {
+    case CLASS:
+      ownerName = this.classPath.classFile(this.name).enclosingName;
+      break;
+    case PARAMETERIZED_TYPE:
+      if (this.ownerType != null) {
+        return this.ownerType;
+      }
+      ownerName = this.classPath.classFile(this.name).declaringName;
+      break;
+    case TYPE_VARIABLE:
+      ownerName = this.declaringName;
+      break;
+    default:
+      return null;
+    }
+    return ownerName == null ? null : this.classPath.classType(ownerName);
+  }
+
+  /**
+   * Returns {@code true} if and only if this {@link SignatureType}
+   * represents a generic class or interface by virtue of having type
+   * parameters.
+   *
+   * @return {@code true} if and only if this {@link SignatureType}
+   * represents a generic class or interface
+   *
+   * @exception TypeNotPresentException if the class file of a
+   * relevant class could not be found
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #typeParameters()
+   */
+  @Override // Type<String>
+  public final boolean hasTypeParameters() {
+    return this.sort == CLASS && !this.classPath.classSignature(this.name).typeParameterNames.isEmpty();
+  }
+
+  /**
+   * Returns {@code true} if and only if this {@link SignatureType}
+   * represents a parameterized type.
+   *
+   * @return {@code true} if and only if this {@link SignatureType}
+   * represents a parameterized type
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #typeArguments()
+   */
+  @Override // Type<String>
+  public final boolean hasTypeArguments() {
+    return this.sort == PARAMETERIZED_TYPE;
+  }
+
+  /**
+   * Returns an {@linkplain Collections#unmodifiableList(List)
+   * unmodifiable <code>List</code>} of this {@link SignatureType}'s
+   * type parameters, which will be {@linkplain List#isEmpty()
+   * non-empty} if and only if this {@link SignatureType} represents a
+   * generic class or interface.
+   *
+   * @return an {@linkplain Collections#unmodifiableList(List)
+   * unmodifiable <code>List</code>} of this {@link SignatureType}'s
+   * type parameters; never {@code null}
+   *
+   * @exception TypeNotPresentException if the class file of a
+   * relevant class could not be found
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  @Override // Type<String>
+  public final List<SignatureType> typeParameters() {
+    if (this.sort != CLASS) {
+      return List.of();
+    }
+    final List<String> names = this.classPath.classSignature(this.name).typeParameterNames;
+    if (names.isEmpty()) {
+      return List.of();
+    }
+    final List<SignatureType> typeParameters = new ArrayList<>(names.size());
+    for (final String name : names) {
+      typeParameters.add(this.classPath.typeVariable(this.name, name));
+    }
+    return Collections.unmodifiableList(typeParameters);
+  }
+
+  /**
+   * Returns an {@linkplain Collections#unmodifiableList(List)
+   * unmodifiable <code>List</code>} of this {@link SignatureType}'s
+   * type arguments, which will be {@linkplain List#isEmpty()
+   * non-empty} if and only if this {@link SignatureType} represents a
+   * parameterized type.
+   *
+   * @return an {@linkplain Collections#unmodifiableList(List)
+   * unmodifiable <code>List</code>} of this {@link SignatureType}'s
+   * type arguments; never {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  @Override // Type<String>
+  public final List<SignatureType> typeArguments() {
+    return this.sort == PARAMETERIZED_TYPE ? this.typeArguments : List.of();
+  }
+
+  /**
+   * Returns the component type of this {@link SignatureType} if it
+   * represents an array type or a generic array type, <strong>or
+   * {@code null} if it does not</strong>.
+   *
+   * @return the component type of this {@link SignatureType}, or
+   * {@code null}
+   *
+   * @nullability This method may return {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  @Override // Type<String>
+  public final SignatureType componentType() {
+    return this.sort == ARRAY ? this.componentType : null;
+  }
+
+  /**
+   * Returns {@code true} if and only if this {@link SignatureType}
+   * represents either a type variable or a wildcard.
+   *
+   * @return {@code true} if and only if this {@link SignatureType}
+   * represents either a type variable or a wildcard
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #upperBounds()
+   */
+  @Override // Type<String>
+  public final boolean upperBounded() {
+    return this.sort >= TYPE_VARIABLE;
+  }
+
+  /**
+   * Returns {@code true} if and only if this {@link SignatureType}
+   * represents a wildcard with a lower bound.
+   *
+   * @return {@code true} if and only if this {@link SignatureType}
+   * represents a wildcard with a lower bound
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #lowerBounds()
+   */
+  @Override // Type<String>
+  public final boolean lowerBounded() {
+    return this.sort == LOWER_BOUNDED_WILDCARD;
+  }
+
+  /**
+   * Returns an {@linkplain Collections#unmodifiableList(List)
+   * unmodifiable <code>List</code>} of this {@link SignatureType}'s
+   * lower bounds, which will contain exactly one element if this
+   * {@link SignatureType} represents a wildcard with a lower bound,
+   * and will be {@linkplain List#isEmpty() empty} otherwise.
+   *
+   * @return an {@linkplain Collections#unmodifiableList(List)
+   * unmodifiable <code>List</code>} of this {@link SignatureType}'s
+   * lower bounds; never {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  @Override // Type<String>
+  public final List<SignatureType> lowerBounds() {
+    return this.sort == LOWER_BOUNDED_WILDCARD ? List.of(this.componentType) : List.of();
+  }
+
+  /**
+   * Returns an {@linkplain Collections#unmodifiableList(List)
+   * unmodifiable <code>List</code>} of this {@link SignatureType}'s
+   * upper bounds, which will be {@linkplain List#isEmpty() non-empty}
+   * if and only if this {@link SignatureType} represents a type
+   * variable or a wildcard.
+   *
+   * <p>As with the reflective type system, a type variable or
+   * wildcard with no explicit upper bound is bounded by {@link
+   * Object}.</p>
+   *
+   * @return an {@linkplain Collections#unmodifiableList(List)
+   * unmodifiable <code>List</code>} of this {@link SignatureType}'s
+   * upper bounds; never {@code null}
+   *
+   * @exception TypeNotPresentException if the class file of a
+   * relevant class could not be found
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  @Override // Type<String>
+  public final List<SignatureType> upperBounds() {
+    switch (this.sort) {
+    case TYPE_VARIABLE:
+      final List<SignatureType> bounds = this.classPath.classSignature(this.declaringName).bounds(this.name);
+      return bounds == null ? List.of(this.classPath.classType(OBJECT)) : bounds;
+    case UNBOUNDED_WILDCARD:
+    case LOWER_BOUNDED_WILDCARD:
+      return List.of(this.classPath.classType(OBJECT));
+    case UPPER_BOUNDED_WILDCARD:
+      return List.of(this.componentType);
+    default:
+      return List.of();
+    }
+  }
+
+  /**
+   * Returns {@code true} if and only if the type erasure of this
+   * {@link SignatureType} is an interface.
+   *
+   * @return {@code true} if and only if the type erasure of this
+   * {@link SignatureType} is an interface
+   *
+   * @exception TypeNotPresentException if the class file of a
+   * relevant class could not be found
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  @Override // Type<String>
+  public final boolean interfaceType() {
+    switch (this.sort) {
+    case CLASS:
+    case PARAMETERIZED_TYPE:
+      return this.classPath.classFile(this.name).isInterface();
+    case TYPE_VARIABLE:
+      return this.upperBounds().get(0).interfaceType();
+    default:
+      return false;
+    }
+  }
+
+  /**
+   * Returns an {@linkplain Collections#unmodifiableList(List)
+   * unmodifiable and immutable <code>List</code>} of the <em>direct
+   * supertypes</em> of this {@link SignatureType}, computed from class
+   * file data alone according to the same rules used by {@link
+   * JavaTypes#directSupertypes(java.lang.reflect.Type)}.
+   *
+   * @return an {@linkplain Collections#unmodifiableList(List)
+   * unmodifiable and immutable <code>List</code>} of the <em>direct
+   * supertypes</em> of this {@link SignatureType}; never {@code null}
+   *
+   * @exception TypeNotPresentException if the class file of a
+   * relevant class could not be found
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  @Override // Type<String>
+  protected final List<SignatureType> computeDirectSupertypes() {
+    List<SignatureType> directSupertypes = this.directSupertypes; // volatile read
+    if (directSupertypes == null) {
+      directSupertypes = List.copyOf(this.computeDirectSupertypes0());
+      if (!DIRECT_SUPERTYPES.compareAndSet(this, null, directSupertypes)) { // volatile write
+        return this.directSupertypes; // volatile read
+      }
+    }
+    return directSupertypes;
+  }
+
+  /**
+   * Returns an {@linkplain Collections#unmodifiableList(List)
+   * unmodifiable and immutable <code>List</code>} of the supertypes
+   * of this {@link SignatureType} (which includes this {@link
+   * SignatureType}), in breadth-first order, without duplicates.
+   *
+   * <p>Unlike the default implementation, this method visits each
+   * supertype reachable by more than one path (such as {@code
+   * java.lang.Object}) only once, as {@link
+   * JavaTypes#supertypes(java.lang.reflect.Type)} does.</p>
+   *
+   * @return an {@linkplain Collections#unmodifiableList(List)
+   * unmodifiable and immutable <code>List</code>} of the supertypes
+   * of this {@link SignatureType}; never {@code null}; never
+   * {@linkplain List#isEmpty() empty}
+   *
+   * @exception TypeNotPresentException if the class file of a
+   * relevant class could not be found
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  @Override // Type<String>
+  protected final List<SignatureType> computeSupertypes() {
+    final ArrayList<SignatureType> supertypes = new ArrayList<>(16);
+    final Set<SignatureType> seen = new HashSet<>();
+    final Queue<SignatureType> q = new ArrayDeque<>(8);
+    q.add(this);
+    seen.add(this);
+    while (!q.isEmpty()) {
+      final SignatureType head = q.remove();
+      supertypes.add(head);
+      for (final SignatureType ds : head.computeDirectSupertypes()) {
+        if (seen.add(ds)) {
+          q.add(ds);
+        }
+      }
+    }
+    return List.copyOf(supertypes);
+  }
+
+  private final List<SignatureType> computeDirectSupertypes0() {
+    switch (this.sort) {
+    case CLASS:
+      if (OBJECT.equals(this.name)) {
+        return List.of();
+      }
+      final ClassFile cf = this.classPath.classFile(this.name);
+      final ArrayList<SignatureType> directSupertypes = new ArrayList<>(cf.interfaceNames.size() + 1);
+      // An interface's class file always records java/lang/Object as
+      // its superclass, but an interface has no superclass.
+      if (this.hasTypeParameters()) {
+        // The direct supertypes of a raw type are the erasures of the
+        // direct supertypes of its generic class or interface.
+        if (cf.superName != null && !cf.isInterface()) {
+          directSupertypes.add(this.classPath.classType(cf.superName));
+        }
+        for (final String interfaceName : cf.interfaceNames) {
+          directSupertypes.add(this.classPath.classType(interfaceName));
+        }
+      } else {
+        final ClassPath.ClassSignature cs = this.classPath.classSignature(this.name);
+        if (cs.superclass != null && !cf.isInterface()) {
+          directSupertypes.add(cs.superclass);
+        }
+        directSupertypes.addAll(cs.interfaces);
+      }
+      if (cf.isInterface() && cf.interfaceNames.isEmpty()) {
+        directSupertypes.add(this.classPath.classType(OBJECT));
+      }
+      return directSupertypes;
+    case PARAMETERIZED_TYPE:
+      return this.parameterizedTypeDirectSupertypes();
+    case ARRAY:
+      if (this.componentType.sort == PRIMITIVE || this.componentType.top()) {
+        return
+          List.of(this.classPath.classType(OBJECT),
+                  this.classPath.classType("java/lang/Cloneable"),
+                  this.classPath.classType("java/io/Serializable"));
+      }
+      final List<SignatureType> componentTypeDirectSupertypes = this.componentType.computeDirectSupertypes();
+      final List<SignatureType> arrayDirectSupertypes = new ArrayList<>(componentTypeDirectSupertypes.size());
+      for (final SignatureType ds : componentTypeDirectSupertypes) {
+        arrayDirectSupertypes.add(this.classPath.arrayType(ds));
+      }
+      return arrayDirectSupertypes;
+    case TYPE_VARIABLE:
+      return this.upperBounds();
+    default:
+      return List.of();
+    }
+  }
+
+  private final List<SignatureType> parameterizedTypeDirectSupertypes() {
+    final ClassFile cf = this.classPath.classFile(this.name);
+    final ClassPath.ClassSignature cs = this.classPath.classSignature(this.name);
+    final ArrayList<SignatureType> directSupertypes = new ArrayList<>(cf.interfaceNames.size() + 2);
+    if (cs.superclass != null && !cf.isInterface()) {
+      directSupertypes.add(cs.superclass.substitute(this));
+    }
+    for (final SignatureType i : cs.interfaces) {
+      directSupertypes.add(i.substitute(this));
+    }
+    if (cf.isInterface() && cf.interfaceNames.isEmpty()) {
+      directSupertypes.add(this.classPath.classType(OBJECT));
+    }
+    directSupertypes.add(this.classPath.classType(this.name));
+    return directSupertypes;
+  }
+
+  // Applies to this SignatureType the substitution of the type
+  // arguments of the supplied parameterized type (and of its
+  // parameterized owners) for the type parameters they correspond to.
+  private final SignatureType substitute(final SignatureType parameterizedType) {
+    switch (this.sort) {
+    case TYPE_VARIABLE:
+      for (SignatureType p = parameterizedType; p != null && p.sort == PARAMETERIZED_TYPE; p = p.ownerType) {
+        if (p.name.equals(this.declaringName)) {
+          final int index = this.classPath.classSignature(p.name).typeParameterNames.indexOf(this.name);
+          if (index >= 0 && index < p.typeArguments.size()) {
+            return p.typeArguments.get(index);
+          }
+          break;
+        }
+      }
+      return this;
+    case PARAMETERIZED_TYPE:
+      final SignatureType ownerType = this.ownerType == null ? null : this.ownerType.substitute(parameterizedType);
+      final List<SignatureType> typeArguments = new ArrayList<>(this.typeArguments.size());
+      boolean changed = ownerType != this.ownerType;
+      for (final SignatureType typeArgument : this.typeArguments) {
+        final SignatureType substitute = typeArgument.substitute(parameterizedType);
+        changed = changed || substitute != typeArgument;
+        typeArguments.add(substitute);
+      }
+      return changed ? this.classPath.parameterizedType(ownerType, this.name, typeArguments) : this;
+    case ARRAY:
+      final SignatureType componentType = this.componentType.substitute(parameterizedType);
+      return componentType == this.componentType ? this : this.classPath.arrayType(componentType);
+    case UPPER_BOUNDED_WILDCARD:
+    case LOWER_BOUNDED_WILDCARD:
+      final SignatureType bound = this.componentType.substitute(parameterizedType);
+      return bound == this.componentType ? this : this.classPath.wildcard(this.sort, bound);
+    default:
+      return this;
+    }
+  }
+
+  /**
+   * Converts this {@link SignatureType} into a {@link
+   * java.lang.reflect.Type java.lang.reflect.Type}, loading (but not
+   * initializing) any classes it names using the supplied {@link
+   * ClassLoader}, and returns it.
+   *
+   * @param classLoader the {@link ClassLoader} to use; may be {@code
+   * null} in which case the bootstrap class loader will be used
+   *
+   * @return a {@link java.lang.reflect.Type java.lang.reflect.Type};
+   * never {@code null}
+   *
+   * @exception ClassNotFoundException if a class named by this {@link
+   * SignatureType} could not be loaded
+   *
+   * @exception TypeNotPresentException if this {@link SignatureType}
+   * represents a type variable that its loaded declaring class does
+   * not declare
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  @Override // Type<String>
+  public final java.lang.reflect.Type load(final ClassLoader classLoader) throws ClassNotFoundException {
+    switch (this.sort) {
+    case PRIMITIVE:
+      return primitiveClass(this.name.charAt(0));
+    case CLASS:
+      return Class.forName(this.name(), false, classLoader);
+    case PARAMETERIZED_TYPE:
+      final SignatureType owner = this.owner();
+      final java.lang.reflect.Type[] typeArguments = new java.lang.reflect.Type[this.typeArguments.size()];
+      for (int i = 0; i < typeArguments.length; i++) {
+        typeArguments[i] = this.typeArguments.get(i).load(classLoader);
+      }
+      return
+        new DefaultParameterizedType(owner == null ? null : owner.load(classLoader),
+                                     Class.forName(this.name.replace('/', '.'), false, classLoader),
+                                     typeArguments);
+    case ARRAY:
+      final java.lang.reflect.Type componentType = this.componentType.load(classLoader);
+      return
+        componentType instanceof Class<?> c ?
+        Array.newInstance(c, 0).getClass() :
+        new DefaultGenericArrayType(componentType);
+    case TYPE_VARIABLE:
+      final Class<?> declaringClass = Class.forName(this.declaringName.replace('/', '.'), false, classLoader);
+      for (final TypeVariable<?> tv : declaringClass.getTypeParameters()) {
+        if (tv.getName().equals(this.name)) {
+          return tv;
+        }
+      }
+      throw new TypeNotPresentException(this.name, null);
+    case UNBOUNDED_WILDCARD:
+      return UnboundedWildcardType.INSTANCE;
+    case UPPER_BOUNDED_WILDCARD:
+      return new UpperBoundedWildcardType(this.componentType.load(classLoader));
+    case LOWER_BOUNDED_WILDCARD:
+      return new LowerBoundedWildcardType(this.componentType.load(classLoader));
+    default:
+      throw new AssertionError("sort: " + this.sort);
+    }
+  }
+
+  /**
+   * Returns a hashcode for this {@link SignatureType}, which is the
+   * hashcode of its {@linkplain #object() signature}.
+   *
+   * <p>This is consistent with {@link #equals(Object)}, because two
+   * {@link SignatureType}s are equal if and only if their signatures
+   * are, and avoids the unbounded recursion that hashing an
+   * F-bounded type variable such as {@code E extends Enum<E>}
+   * structurally would otherwise entail.</p>
+   *
+   * @return a hashcode for this {@link SignatureType}
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  @Override // Type<String>
+  public final int hashCode() {
+    return this.object().hashCode();
+  }
+
+  @Override // Object
+  public final String toString() {
+    return this.object();
+  }
+
+
+  /*
+   * Static methods.
+   */
+
+
+  static final String primitiveName(final char descriptor) {
+    switch (descriptor) {
+    case 'B': return "byte";
+    case 'C': return "char";
+    case 'D': return "double";
+    case 'F': return "float";
+    case 'I': return "int";
+    case 'J': return "long";
+    case 'S': return "short";
+    case 'V': return "void";
+    case 'Z': return "boolean";
+    default: return null;
+    }
+  }
+
+  private static final Class<?> primitiveClass(final char descriptor) {
+    switch (descriptor) {
+    case 'B': return byte.class;
+    case 'C': return char.class;
+    case 'D': return double.class;
+    case 'F': return float.class;
+    case 'I': return int.class;
+    case 'J': return long.class;
+    case 'S': return short.class;
+    case 'V': return void.class;
+    case 'Z': return boolean.class;
+    default: throw new AssertionError("descriptor: " + descriptor);
+    }
+  }
+
+}
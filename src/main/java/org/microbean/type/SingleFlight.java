@@ -0,0 +1,180 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.lang.invoke.VarHandle;
+
+import java.util.Objects;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+
+import java.util.function.Supplier;
+
+// Computes lazily derived values stored in volatile fields (accessed
+// via VarHandles) exactly once per field, even under contention.  The
+// first thread to find the field empty computes its value; other
+// threads that find the same field empty while the computation is in
+// flight park (without pinning a carrier thread, since no monitors
+// are held) until it has been published, instead of duplicating the
+// work.  In-flight computations are tracked outside of the fields
+// themselves, so the fields keep their declared types, the read path
+// of an already computed field is a single volatile read, and no
+// instance pays for the coordination once its fields are computed.
+//
+// A computation that fails publishes nothing: its exception is thrown
+// to its own caller, and waiting threads retry.  A computation that
+// re-enters itself on the same thread is performed again without
+// coordination rather than deadlocking.
+final class SingleFlight {
+
+
+  /*
+   * Static fields.
+   */
+
+
+  private static final ConcurrentMap<Key, Flight> FLIGHTS = new ConcurrentHashMap<>();
+
+
+  /*
+   * Constructors.
+   */
+
+
+  private SingleFlight() {
+    super();
+  }
+
+
+  /*
+   * Static methods.
+   */
+
+
+  // Returns the non-null value of the field of holder accessed by
+  // handle, computing it with computation and publishing it if
+  // necessary.  computation must not return null.
+  @SuppressWarnings("unchecked")
+  static final <V> V get(final Object holder, final VarHandle handle, final Supplier<? extends V> computation) {
+    Object value = (Object)handle.getVolatile(holder); // volatile read
+    if (value != null) {
+      return (V)value;
+    }
+    final Key key = new Key(holder, handle);
+    while (true) {
+      final Flight flight = new Flight();
+      final Flight existing = FLIGHTS.putIfAbsent(key, flight);
+      if (existing == null) {
+        try {
+          value = (Object)handle.getVolatile(holder); // volatile read
+          if (value == null) {
+            value = Objects.requireNonNull(computation.get());
+            if (!handle.compareAndSet(holder, null, value)) { // volatile write
+              value = (Object)handle.getVolatile(holder); // volatile read
+            }
+          }
+          return (V)value;
+        } finally {
+          FLIGHTS.remove(key, flight);
+          flight.land();
+        }
+      } else if (existing.thread == Thread.currentThread()) {
+        // Re-entrant; waiting would deadlock.
+        return computation.get();
+      }
+      existing.await();
+      value = (Object)handle.getVolatile(holder); // volatile read
+      if (value != null) {
+        return (V)value;
+      }
+      // The computation in flight failed; try again.
+    }
+  }
+
+
+  /*
+   * Inner and nested classes.
+   */
+
+
+  private static final class Flight {
+
+    private final Thread thread;
+
+    private final CountDownLatch latch;
+
+    private Flight() {
+      super();
+      this.thread = Thread.currentThread();
+      this.latch = new CountDownLatch(1);
+    }
+
+    private final void land() {
+      this.latch.countDown();
+    }
+
+    private final void await() {
+      boolean interrupted = false;
+      while (true) {
+        try {
+          this.latch.await();
+          break;
+        } catch (final InterruptedException e) {
+          interrupted = true;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+  }
+
+  private static final class Key {
+
+    private final Object holder;
+
+    private final VarHandle handle;
+
+    private Key(final Object holder, final VarHandle handle) {
+      super();
+      this.holder = holder;
+      this.handle = handle;
+    }
+
+    @Override // Object
+    public final int hashCode() {
+      return 31 * System.identityHashCode(this.holder) + System.identityHashCode(this.handle);
+    }
+
+    @Override // Object
+    public final boolean equals(final Object other) {
+      if (other == this) {
+        return true;
+      } else if (other != null && other.getClass() == this.getClass()) {
+        final Key her = (Key)other;
+        return this.holder == her.holder && this.handle == her.handle;
+      } else {
+        return false;
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,78 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A JDK Flight Recorder {@link Event} recording a computation of
+ * {@linkplain Type#supertypes() supertypes} or {@linkplain
+ * JavaTypes#supertypes(java.lang.reflect.Type) Java supertypes} that
+ * took at least as long as the event's threshold (by default {@code
+ * 1 ms}).
+ *
+ * <p>The threshold may be changed in a recording's settings using the
+ * event name {@code org.microbean.type.Supertypes}.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ *
+ * @see Type#supertypes()
+ *
+ * @see JavaTypes#supertypes(java.lang.reflect.Type)
+ */
+@Category({ "microBean", "Type" })
+@Description("A slow supertype computation")
+@Label("Supertypes")
+@Name("org.microbean.type.Supertypes")
+@StackTrace(false)
+@Threshold("1 ms")
+final class SupertypesEvent extends Event {
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  @Label("Type")
+  String type;
+
+  @Description("The class of the type whose supertypes were computed")
+  @Label("Type Class")
+  Class<?> typeClass;
+
+  @Label("Supertypes")
+  int supertypes;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  SupertypesEvent() {
+    super();
+  }
+
+}
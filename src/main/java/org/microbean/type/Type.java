@@ -24,15 +24,25 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
+import java.util.Spliterator;
 
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import org.microbean.development.annotation.Convenience;
 import org.microbean.development.annotation.EntryPoint;
 import org.microbean.development.annotation.Experimental;
@@ -72,10 +82,30 @@ public abstract class Type<T> implements Owner<T> {
 
   private static final VarHandle SUPERTYPES;
 
+  private static final VarHandle SUPERTYPE_INDEX;
+
+  // Whether a given Type subclass overrides computeSupertypes(), in
+  // which case its supertypes cannot be enumerated lazily.
+  private static final ClassValue<Boolean> OVERRIDES_COMPUTE_SUPERTYPES = new ClassValue<>() {
+      @Override // ClassValue<Boolean>
+      protected final Boolean computeValue(final Class<?> c) {
+        for (Class<?> x = c; x != Type.class; x = x.getSuperclass()) {
+          try {
+            x.getDeclaredMethod("computeSupertypes");
+            return Boolean.TRUE;
+          } catch (final NoSuchMethodException e) {
+            // Keep looking.
+          }
+        }
+        return Boolean.FALSE;
+      }
+    };
+
   static {
     final Lookup lookup = MethodHandles.lookup();
     try {
       SUPERTYPES = lookup.findVarHandle(Type.class, "supertypes", List.class);
+      SUPERTYPE_INDEX = lookup.findVarHandle(Type.class, "supertypeIndex", Type[].class);
     } catch (final NoSuchFieldException | IllegalAccessException reflectiveOperationException) {
       throw (Error)new ExceptionInInitializerError(reflectiveOperationException.getMessage()).initCause(reflectiveOperationException);
     }
@@ -91,6 +121,19 @@ public abstract class Type<T> implements Owner<T> {
 
   private volatile List<? extends Type<T>> supertypes;
 
+  // A lazily built open-addressing hash table (linear probing, keyed
+  // on hashCode()) of the elements of supertypes, used to make
+  // membership tests touch only colliding candidates.
+  private volatile Type<?>[] supertypeIndex;
+
+  // Lazily computed structural hashcode; 0 means "not yet computed".
+  // Racy but benign: every thread computes the same value.
+  private int hashCode;
+
+  // Lazily computed Kind; null means "not yet computed".  Racy but
+  // benign for the same reason.
+  private Kind kind;
+
 
   /*
    * Constructors.
@@ -886,6 +929,56 @@ public abstract class Type<T> implements Owner<T> {
     return !this.named() && (this.upperBounded() || this.lowerBounded());
   }
 
+  /**
+   * Returns the {@link Kind} of this {@link Type}.
+   *
+   * <p>The {@link Kind} is computed once from the return values of
+   * the {@link #hasTypeArguments()}, {@link #componentType()}, {@link
+   * #lowerBounded()}, {@link #upperBounded()}, {@link #named()},
+   * {@link #object()} and {@link #type()} methods and is then
+   * reused.</p>
+   *
+   * @return the {@link Kind} of this {@link Type}; never {@code
+   * null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see Kind
+   */
+  public final Kind kind() {
+    Kind kind = this.kind;
+    if (kind == null) {
+      kind = this.computeKind();
+      this.kind = kind;
+    }
+    return kind;
+  }
+
+  private final Kind computeKind() {
+    if (this.hasTypeArguments()) {
+      return Kind.PARAMETERIZED_TYPE;
+    } else if (this.componentType() == null) {
+      if (this.lowerBounded()) {
+        return Kind.LOWER_BOUNDED_WILDCARD;
+      } else if (this.upperBounded()) {
+        return this.named() ? Kind.TYPE_VARIABLE : Kind.UPPER_BOUNDED_WILDCARD;
+      } else if (this.object() == null && !this.named()) {
+        return Kind.CUSTOM_SUPERTYPED;
+      } else {
+        return Kind.CLASS;
+      }
+    } else if (this.type() == this) {
+      return Kind.CLASS;
+    } else {
+      return Kind.GENERIC_ARRAY_TYPE;
+    }
+  }
+
   /**
    * Returns all the supertypes of this {@link Type} (which normally
    * includes this {@link Type}).
@@ -910,12 +1003,22 @@ public abstract class Type<T> implements Owner<T> {
    * @see #computeSupertypes()
    */
   public final List<? extends Type<T>> supertypes() {
-    List<? extends Type<T>> c = this.supertypes; // volatile read
-    if (c == null) {
-      c = List.copyOf(this.computeSupertypes());
-      if (!SUPERTYPES.compareAndSet(this, null, c)) { // volatile write
-        return this.supertypes; // volatile read
-      }
+    final List<? extends Type<T>> c = this.supertypes; // volatile read
+    return c == null ? SingleFlight.get(this, SUPERTYPES, this::supertypes0) : c;
+  }
+
+  // Computes the supertypes of this Type.  Called at most once per
+  // instance (barring failure) by supertypes().
+  private final List<? extends Type<T>> supertypes0() {
+    final SupertypesEvent event = new SupertypesEvent();
+    event.begin();
+    final List<? extends Type<T>> c = List.copyOf(this.computeSupertypes());
+    event.end();
+    if (event.shouldCommit()) {
+      event.type = AssignabilityEvent.name(this);
+      event.typeClass = this.getClass();
+      event.supertypes = c.size();
+      event.commit();
     }
     return c;
   }
@@ -965,13 +1068,131 @@ public abstract class Type<T> implements Owner<T> {
     return computeSupertypesBreadthFirst(this);
   }
 
+  /**
+   * Returns a sequential, ordered {@link Stream} of all the
+   * supertypes of this {@link Type} (which normally includes this
+   * {@link Type}), in the same order as the {@link List} returned by
+   * the {@link #supertypes()} method, but computed only as far as it
+   * is consumed.
+   *
+   * <p>If the supertypes of this {@link Type} have not yet been
+   * computed, the returned {@link Stream} applies the direct
+   * supertype relation breadth first as each element is requested,
+   * so a short-circuiting operation such as {@link
+   * Stream#findFirst()} or {@link Stream#anyMatch(Predicate)} does
+   * only as much work as is needed to reach its answer.  It neither
+   * requires nor populates the list returned by {@link
+   * #supertypes()}.</p>
+   *
+   * @return a {@link Stream} of the supertypes of this {@link Type};
+   * never {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic, but
+   * returns a new {@link Stream} on each invocation.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads, but the returned {@link Stream} is not.
+   *
+   * @see #supertypeSpliterator()
+   *
+   * @see #supertypes()
+   */
+  public final Stream<? extends Type<T>> supertypeStream() {
+    return StreamSupport.stream(this.supertypeSpliterator(), false);
+  }
+
+  /**
+   * Returns an ordered {@link Spliterator} over all the supertypes of
+   * this {@link Type} (which normally includes this {@link Type}), in
+   * the same order as the {@link List} returned by the {@link
+   * #supertypes()} method, but computed only as far as it is
+   * traversed.
+   *
+   * <p>If the supertypes of this {@link Type} have already been
+   * computed, or if this {@link Type}'s class overrides the {@link
+   * #computeSupertypes()} method, the returned {@link Spliterator}
+   * traverses the {@link List} returned by the {@link #supertypes()}
+   * method.  Otherwise it applies the direct supertype relation
+   * breadth first, one {@link Type} at a time, and neither requires
+   * nor populates that {@link List}.</p>
+   *
+   * @return a {@link Spliterator} over the supertypes of this {@link
+   * Type}; never {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic, but
+   * returns a new {@link Spliterator} on each invocation.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads, but the returned {@link Spliterator} is not.
+   *
+   * @see #supertypeStream()
+   *
+   * @see #visitSupertypes(Predicate)
+   */
+  public final Spliterator<? extends Type<T>> supertypeSpliterator() {
+    final List<? extends Type<T>> supertypes = this.supertypes; // volatile read
+    if (supertypes != null) {
+      return supertypes.spliterator();
+    } else if (OVERRIDES_COMPUTE_SUPERTYPES.get(this.getClass())) {
+      return this.supertypes().spliterator();
+    }
+    return new SupertypeSpliterator<>(this);
+  }
+
+  /**
+   * Supplies each of the supertypes of this {@link Type} (which
+   * normally include this {@link Type}) to the supplied visitor, in
+   * the order in which the {@link #supertypeSpliterator()} method
+   * would produce them, until the visitor returns {@code false} or
+   * there are no more supertypes.
+   *
+   * <p>Supertypes beyond the one at which the visitor stops are not
+   * computed, unless they have been computed already.</p>
+   *
+   * @param visitor a {@link Predicate} that receives each supertype
+   * in turn and returns {@code true} if the traversal should continue
+   * or {@code false} if it should stop; must not be {@code null}
+   *
+   * @return {@code true} if every supertype was visited; {@code
+   * false} if the visitor stopped the traversal
+   *
+   * @exception NullPointerException if {@code visitor} is {@code
+   * null}
+   *
+   * @idempotency This method is idempotent and deterministic provided
+   * that the supplied {@link Predicate} is.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads provided that the supplied {@link Predicate} is.
+   *
+   * @see #supertypeSpliterator()
+   */
+  public final boolean visitSupertypes(final Predicate<? super Type<T>> visitor) {
+    Objects.requireNonNull(visitor, "visitor");
+    final Spliterator<? extends Type<T>> s = this.supertypeSpliterator();
+    final boolean[] stopped = new boolean[1];
+    while (s.tryAdvance(t -> stopped[0] = !visitor.test(t))) {
+      if (stopped[0]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Returns {@code true} if and only if this {@link Type} is a
    * supertype of the supplied {@link Type}.
    *
    * <p>This method uses a combination of the {@link #supertypes()}
    * method and the {@link #equals(Type, Type)} method in its
-   * implementation.</p>
+   * implementation.  Membership is tested against a lazily built
+   * index of the {@linkplain #supertypes() supertypes}, keyed by
+   * {@linkplain #hashCode() hashcode}, so only supertypes sharing a
+   * hashcode are compared.</p>
    *
    * @param sub the purported subtype; must not be {@code null}
    *
@@ -993,12 +1214,7 @@ public abstract class Type<T> implements Owner<T> {
   public final boolean supertypeOf(final Type<?> sub) {
     // Does this represent a supertype of sub?  Remember that the
     // supertype relation is reflexive.
-    for (final Type<?> supertype : sub.supertypes()) {
-      if (equals(supertype, this)) {
-        return true;
-      }
-    }
-    return false;
+    return sub.hasSupertype(this);
   }
 
   /**
@@ -1007,7 +1223,10 @@ public abstract class Type<T> implements Owner<T> {
    *
    * <p>This method uses a combination of the {@link #supertypes()}
    * method and the {@link #equals(Type, Type)} method in its
-   * implementation.</p>
+   * implementation.  Membership is tested against a lazily built
+   * index of the {@linkplain #supertypes() supertypes}, keyed by
+   * {@linkplain #hashCode() hashcode}, so only supertypes sharing a
+   * hashcode are compared.</p>
    *
    * @param sup the purported supertype; must not be {@code null}
    *
@@ -1027,14 +1246,41 @@ public abstract class Type<T> implements Owner<T> {
    */
   @Convenience
   public final boolean subtypeOf(final Type<?> sup) {
-    for (final Type<?> supertype : this.supertypes()) {
-      if (equals(sup, supertype)) {
+    return this.hasSupertype(sup);
+  }
+
+  private final boolean hasSupertype(final Type<?> sup) {
+    final Type<?>[] index = this.supertypeIndex();
+    final int mask = index.length - 1;
+    for (int i = spread(sup.hashCode()) & mask; index[i] != null; i = (i + 1) & mask) {
+      if (equals(sup, index[i])) {
         return true;
       }
     }
     return false;
   }
 
+  private final Type<?>[] supertypeIndex() {
+    final Type<?>[] index = this.supertypeIndex; // volatile read
+    return index == null ? SingleFlight.get(this, SUPERTYPE_INDEX, this::computeSupertypeIndex) : index;
+  }
+
+  private final Type<?>[] computeSupertypeIndex() {
+    final List<? extends Type<T>> supertypes = this.supertypes();
+    // Power of two at least twice as large as the number of
+    // supertypes, so there is always at least one empty slot.
+    final Type<?>[] index = new Type<?>[Integer.highestOneBit(Math.max(1, supertypes.size()) << 1) << 1];
+    final int mask = index.length - 1;
+    for (final Type<T> supertype : supertypes) {
+      int i = spread(supertype.hashCode()) & mask;
+      while (index[i] != null) {
+        i = (i + 1) & mask;
+      }
+      index[i] = supertype;
+    }
+    return index;
+  }
+
   /**
    * Returns a {@link Type}, selected from this {@link Type}'s
    * {@linkplain #supertypes() supertypes}, that is the most
@@ -1063,17 +1309,64 @@ public abstract class Type<T> implements Owner<T> {
    * @see #supertypes()
    *
    * @see #customSupertyped()
+   *
+   * @see #mostSpecializedSupertypes(Predicate)
    */
   public final Type<T> mostSpecialized(final Predicate<? super Type<T>> p) {
-    Type<T> candidate = null;
+    final List<Type<T>> mostSpecializedSupertypes = this.mostSpecializedSupertypes(p);
+    return mostSpecializedSupertypes.isEmpty() ? null : mostSpecializedSupertypes.get(0);
+  }
+
+  /**
+   * Returns an unmodifiable {@link List} of those of this {@link
+   * Type}'s {@linkplain #supertypes() supertypes} that pass the test
+   * represented by the supplied {@link Predicate} and that are not
+   * {@linkplain #supertypeOf(Type) supertypes} of any other such
+   * supertype.
+   *
+   * <p>The returned {@link List} is therefore the list of maximal
+   * elements, in the subtype partial order, of the supertypes passing
+   * the supplied {@link Predicate}.  Each membership test is performed against the
+   * hash index used by the {@link #subtypeOf(Type)} method, so the
+   * cost of this method is proportional to the number of supertypes
+   * times the number of maximal elements, which is normally very
+   * small.</p>
+   *
+   * @param p the {@link Predicate} imposing additional restrictions;
+   * must not be {@code null}
+   *
+   * @return an unmodifiable {@link List} of the most specialized
+   * supertypes meeting the conditions above; never {@code null}
+   *
+   * @exception NullPointerException if {@code p} is {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic provided
+   * that the supplied {@link Predicate} is deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #mostSpecialized(Predicate)
+   */
+  public final List<Type<T>> mostSpecializedSupertypes(final Predicate<? super Type<T>> p) {
+    final List<Type<T>> maximals = new ArrayList<>(3);
+    SUPERTYPES:
     for (final Type<T> supertype : this.supertypes()) {
-      if (supertype != candidate && p.test(supertype) && candidate == null || candidate.supertypeOf(supertype)) {
-        candidate = supertype;
+      if (p.test(supertype)) {
+        for (final Type<T> maximal : maximals) {
+          if (maximal.subtypeOf(supertype)) {
+            continue SUPERTYPES;
+          }
+        }
+        maximals.removeIf(supertype::subtypeOf);
+        maximals.add(supertype);
       }
     }
-    return candidate;
+    return Collections.unmodifiableList(maximals);
   }
-  
+
   /**
    * Converts this {@link Type} to a {@link java.lang.reflect.Type
    * java.lang.reflect.Type}, loading it if necessary, possibly by
@@ -1097,9 +1390,31 @@ public abstract class Type<T> implements Owner<T> {
   @Experimental
   public abstract java.lang.reflect.Type load(final ClassLoader classLoader) throws ClassNotFoundException;
   
+  /**
+   * Returns a hashcode for this {@link Type}, computed by the {@link
+   * #hashCode(Type)} method.
+   *
+   * <p>The structural hashcode is computed at most once per {@link
+   * Type} (modulo benign races) and then reused, which makes {@link
+   * Type}s inexpensive to use as keys in hash-based collections.</p>
+   *
+   * @return a hashcode for this {@link Type}
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #hashCode(Type)
+   */
   @Override // Object
   public int hashCode() {
-    return hashCode(this);
+    int hashCode = this.hashCode;
+    if (hashCode == 0) {
+      hashCode = hashCode(this);
+      this.hashCode = hashCode;
+    }
+    return hashCode;
   }
 
   @Override // Owner
@@ -1119,6 +1434,10 @@ public abstract class Type<T> implements Owner<T> {
    */
 
 
+  private static final int spread(final int hashCode) {
+    return hashCode ^ (hashCode >>> 16);
+  }
+
   /**
    * Returns a hashcode for the supplied {@link Type}, independent of
    * its particular implementation of the {@link Object#hashCode()}
@@ -1138,6 +1457,8 @@ public abstract class Type<T> implements Owner<T> {
   public static final int hashCode(final Type<?> type) {
     if (type == null) {
       return 0;
+    } else if (type.typeVariable()) {
+      return typeVariableHashCode(type);
     }
 
     int hashCode = 1;
@@ -1212,6 +1533,26 @@ public abstract class Type<T> implements Owner<T> {
     return hashCode;
   }
 
+  // Hashes a type variable by its name and the identity of its
+  // declaring owner only.  Its bounds may refer back to it (as in T
+  // extends Comparable<T>), as may the parameters of a declaring
+  // executable, so hashing either would never terminate.  Equal type
+  // variables have equal names and equal owners, so this is
+  // consistent with equals(Type, Type).
+  private static final int typeVariableHashCode(final Type<?> typeVariable) {
+    int hashCode = 31 + Objects.hashCode(typeVariable.name());
+    final Owner<?> owner = typeVariable.owner();
+    if (owner == null) {
+      hashCode = 31 * hashCode;
+    } else if (owner instanceof Type<?> ownerType) {
+      hashCode = 31 * hashCode + hashCode(ownerType);
+    } else {
+      hashCode = 31 * hashCode + Objects.hashCode(owner.name());
+      hashCode = 31 * hashCode + hashCode((Type<?>)owner.owner()); // declaring class
+    }
+    return hashCode;
+  }
+
   /**
    * Returns {@code true} if and only if the two supplied {@link
    * Type}s are equal, based solely upon the properties publicly
@@ -1670,6 +2011,111 @@ public abstract class Type<T> implements Owner<T> {
    */
 
 
+  /**
+   * An enumeration of the mutually exclusive kinds of type a {@link
+   * Type} may model.
+   *
+   * @author <a href="https://about.me/lairdnelson"
+   * target="_parent">Laird Nelson</a>
+   *
+   * @see Type#kind()
+   */
+  @Experimental
+  public static enum Kind {
+
+    /**
+     * A class, interface or primitive type, including a non-generic
+     * array type.
+     */
+    CLASS,
+
+    /**
+     * A parameterized type.
+     *
+     * @see Type#parameterizedType()
+     */
+    PARAMETERIZED_TYPE,
+
+    /**
+     * A generic array type.
+     *
+     * @see Type#genericArrayType()
+     */
+    GENERIC_ARRAY_TYPE,
+
+    /**
+     * A type variable.
+     *
+     * @see Type#typeVariable()
+     */
+    TYPE_VARIABLE,
+
+    /**
+     * A wildcard type with an upper bound (which may be implicit).
+     *
+     * @see Type#wildcard()
+     */
+    UPPER_BOUNDED_WILDCARD,
+
+    /**
+     * A wildcard type with a lower bound.
+     *
+     * @see Type#wildcard()
+     */
+    LOWER_BOUNDED_WILDCARD,
+
+    /**
+     * A placeholder for a {@linkplain Type#customSupertyped() custom
+     * list of supertypes}.
+     *
+     * @see Type#customSupertyped()
+     */
+    CUSTOM_SUPERTYPED;
+
+  }
+
+
+  // Lazily applies the direct supertype relation, breadth first, in
+  // the same order as computeSupertypesBreadthFirst(Type).
+  private static final class SupertypeSpliterator<X> implements Spliterator<Type<X>> {
+
+    private final Queue<Type<X>> q;
+
+    private SupertypeSpliterator(final Type<X> type) {
+      super();
+      this.q = new ArrayDeque<>(8);
+      this.q.add(type);
+    }
+
+    @Override // Spliterator<Type<X>>
+    public final boolean tryAdvance(final Consumer<? super Type<X>> action) {
+      Objects.requireNonNull(action, "action");
+      final Type<X> head = this.q.poll();
+      if (head == null) {
+        return false;
+      }
+      this.q.addAll(head.computeDirectSupertypes());
+      action.accept(head);
+      return true;
+    }
+
+    @Override // Spliterator<Type<X>>
+    public final Spliterator<Type<X>> trySplit() {
+      return null;
+    }
+
+    @Override // Spliterator<Type<X>>
+    public final long estimateSize() {
+      return Long.MAX_VALUE;
+    }
+
+    @Override // Spliterator<Type<X>>
+    public final int characteristics() {
+      return ORDERED | NONNULL;
+    }
+
+  }
+
   /**
    * An abstract embodiment of {@link Type} {@linkplain
    * #assignable(Type, Type) assignability rules}.
@@ -1803,7 +2249,8 @@ public abstract class Type<T> implements Owner<T> {
     public boolean assignable(final java.lang.reflect.Type receiverType,
                               final java.lang.reflect.Type payloadType,
                               final boolean box) {
-      return this.assignable(JavaType.of(box, receiverType), JavaType.of(box, payloadType));
+      final boolean boxing = this.boxing(box);
+      return this.assignable(JavaType.of(boxing, receiverType), JavaType.of(boxing, payloadType));
     }
 
     /**
@@ -1881,9 +2328,10 @@ public abstract class Type<T> implements Owner<T> {
     public final boolean anyAssignable(final java.lang.reflect.Type receiverType,
                                        final Collection<? extends java.lang.reflect.Type> payloadTypes,
                                        final boolean box) {
-      final JavaType receiverJavaType = JavaType.of(box, receiverType);
+      final boolean boxing = this.boxing(box);
+      final JavaType receiverJavaType = JavaType.of(boxing, receiverType);
       for (final java.lang.reflect.Type payloadType : payloadTypes) {
-        if (this.assignable(receiverJavaType, JavaType.of(box, payloadType))) {
+        if (this.assignable(receiverJavaType, JavaType.of(boxing, payloadType))) {
           return true;
         }
       }
@@ -1938,6 +2386,201 @@ public abstract class Type<T> implements Owner<T> {
       return false;
     }
 
+    /**
+     * Returns an {@link AssignabilityMatrix} recording, for every
+     * receiver type in the supplied {@code receiverTypes} and every
+     * payload type in the supplied {@code payloadTypes}, whether the
+     * payload type is {@linkplain #assignable(Type, Type) assignable}
+     * to the receiver type.
+     *
+     * <p>Row {@code r}, column {@code c} of the returned {@link
+     * AssignabilityMatrix} is {@code true} if and only if {@link
+     * #assignable(Type, Type) assignable(receiverTypes.get(r),
+     * payloadTypes.get(c))} would return {@code true}.</p>
+     *
+     * <p>Work is shared across cells.  Each payload type's {@linkplain
+     * Type#supertypes() supertypes} are visited once, and receiver
+     * types are grouped by their {@linkplain Type#type() raw types}.
+     * If the {@link #erasureMatchRequired()} method returns {@code
+     * true}, a cell whose receiver's raw type is not the raw type of
+     * any supertype of its payload is rejected without calling the
+     * {@link #assignable(Type, Type)} method.</p>
+     *
+     * @param <X> the kind of type modeled by the {@code
+     * receiverTypes}; often a {@link java.lang.reflect.Type
+     * java.lang.reflect.Type}
+     *
+     * @param <Y> the kind of type modeled by the {@code
+     * payloadTypes}; often a {@link java.lang.reflect.Type
+     * java.lang.reflect.Type}
+     *
+     * @param receiverTypes the receiver types; must not be {@code
+     * null} or contain {@code null} elements
+     *
+     * @param payloadTypes the payload types; must not be {@code null}
+     * or contain {@code null} elements
+     *
+     * @param parallel whether rows should be computed in parallel on
+     * the {@linkplain java.util.concurrent.ForkJoinPool#commonPool()
+     * common fork/join pool}
+     *
+     * @return a new {@link AssignabilityMatrix}; never {@code null}
+     *
+     * @exception NullPointerException if either {@code receiverTypes}
+     * or {@code payloadTypes} is {@code null} or contains {@code null}
+     * elements
+     *
+     * @nullability This method never returns {@code null}.
+     *
+     * @idempotency This method is idempotent and deterministic.
+     *
+     * @threadsafety This method is safe for concurrent use by
+     * multiple threads.
+     *
+     * @see #erasureMatchRequired()
+     */
+    @Experimental
+    public final <X, Y> AssignabilityMatrix assignabilityMatrix(final List<? extends Type<X>> receiverTypes,
+                                                                final List<? extends Type<Y>> payloadTypes,
+                                                                final boolean parallel) {
+      final int rows = receiverTypes.size();
+      final int columns = payloadTypes.size();
+      final int wordsPerRow = AssignabilityMatrix.wordsPerRow(columns);
+      final long[] words = new long[rows * wordsPerRow];
+      if (rows == 0 || columns == 0) {
+        return new AssignabilityMatrix(rows, columns, words);
+      }
+
+      // Columns that can never be rejected by raw type; every row
+      // starts from these.
+      final long[] unfiltered = new long[wordsPerRow];
+      // The raw types of each filterable payload's supertypes.
+      final List<Set<Type<?>>> payloadRawTypes = new ArrayList<>(columns);
+      final boolean erasureMatchRequired = this.erasureMatchRequired();
+      for (int c = 0; c < columns; c++) {
+        final Type<Y> payloadType = Objects.requireNonNull(payloadTypes.get(c), "payloadTypes");
+        if (erasureMatchRequired && erasureFilterable(payloadType)) {
+          final List<? extends Type<Y>> supertypes = payloadType.supertypes();
+          final Set<Type<?>> rawTypes = new HashSet<>(supertypes.size() << 1);
+          for (final Type<Y> supertype : supertypes) {
+            rawTypes.add(supertype.type());
+          }
+          payloadRawTypes.add(rawTypes);
+        } else {
+          payloadRawTypes.add(null);
+          unfiltered[c >>> 6] |= 1L << c;
+        }
+      }
+
+      // Candidate columns for each distinct receiver raw type.
+      final Map<Type<?>, long[]> candidatesByRawType = new HashMap<>();
+      final long[][] rowCandidates = new long[rows][];
+      for (int r = 0; r < rows; r++) {
+        final Type<X> receiverType = Objects.requireNonNull(receiverTypes.get(r), "receiverTypes");
+        if (erasureMatchRequired && erasureFilterable(receiverType)) {
+          rowCandidates[r] = candidatesByRawType.computeIfAbsent(receiverType.type(), rawType -> {
+              final long[] candidates = unfiltered.clone();
+              for (int c = 0; c < columns; c++) {
+                final Set<Type<?>> rawTypes = payloadRawTypes.get(c);
+                if (rawTypes != null && rawTypes.contains(rawType)) {
+                  candidates[c >>> 6] |= 1L << c;
+                }
+              }
+              return candidates;
+            });
+        } else {
+          rowCandidates[r] = null; // all columns
+        }
+      }
+
+      final IntConsumer rowComputer = r -> {
+        final Type<X> receiverType = receiverTypes.get(r);
+        final long[] candidates = rowCandidates[r];
+        final int offset = r * wordsPerRow;
+        for (int c = 0; c < columns; c++) {
+          if ((candidates == null || (candidates[c >>> 6] & (1L << c)) != 0L) &&
+              this.assignable(receiverType, payloadTypes.get(c))) {
+            words[offset + (c >>> 6)] |= 1L << c;
+          }
+        }
+      };
+      if (parallel && rows > 1) {
+        // Rows occupy disjoint words, so no synchronization is needed;
+        // completion of the terminal operation publishes the writes.
+        IntStream.range(0, rows).parallel().forEach(rowComputer);
+      } else {
+        for (int r = 0; r < rows; r++) {
+          rowComputer.accept(r);
+        }
+      }
+      return new AssignabilityMatrix(rows, columns, words);
+    }
+
+    /**
+     * Returns {@code true} if, under this {@link Semantics}, a payload
+     * type {@linkplain Type#kind() of kind} {@link Kind#CLASS} or
+     * {@link Kind#PARAMETERIZED_TYPE} can be {@linkplain
+     * #assignable(Type, Type) assignable} to a receiver type of either
+     * of those kinds only when the receiver type's {@linkplain
+     * Type#type() raw type} is {@linkplain Type#equals(Object) equal
+     * to} the raw type of at least one of the payload type's
+     * {@linkplain Type#supertypes() supertypes}.
+     *
+     * <p>This method is called by the {@link
+     * #assignabilityMatrix(List, List, boolean)} method to decide
+     * whether cells may be rejected early.</p>
+     *
+     * <p>This implementation returns {@code false}.  Subclasses that
+     * override assignability methods must ensure that the value
+     * returned by this method remains accurate.</p>
+     *
+     * @return {@code true} if early rejection by raw type is sound
+     * under this {@link Semantics}
+     *
+     * @idempotency This method is, and its overrides must be,
+     * idempotent and deterministic.
+     *
+     * @threadsafety This method is, and its overrides must be, safe
+     * for concurrent use by multiple threads.
+     *
+     * @see #assignabilityMatrix(List, List, boolean)
+     */
+    protected boolean erasureMatchRequired() {
+      return false;
+    }
+
+    static final boolean erasureFilterable(final Type<?> type) {
+      final Kind kind = type.kind();
+      return kind == Kind.CLASS || kind == Kind.PARAMETERIZED_TYPE;
+    }
+
+    /**
+     * Returns whether autoboxing will actually be in effect when this
+     * {@link Semantics} converts {@link java.lang.reflect.Type
+     * java.lang.reflect.Type}s into {@link JavaType}s, given the
+     * autoboxing requested by a caller.
+     *
+     * <p>This method is called by the {@link
+     * #assignable(java.lang.reflect.Type, java.lang.reflect.Type,
+     * boolean)} and {@link #anyAssignable(java.lang.reflect.Type,
+     * Collection, boolean)} methods.</p>
+     *
+     * <p>This implementation returns {@code box}.</p>
+     *
+     * @param box the autoboxing requested by a caller
+     *
+     * @return whether autoboxing will actually be in effect
+     *
+     * @idempotency This method is, and its overrides must be,
+     * idempotent and deterministic.
+     *
+     * @threadsafety This method is, and its overrides must be, safe
+     * for concurrent use by multiple threads.
+     */
+    protected boolean boxing(final boolean box) {
+      return box;
+    }
+
     /**
      * Returns {@code true} if and only if a reference bearing the
      * type modeled by the supplied {@code payloadType} is assignable
@@ -1978,68 +2621,69 @@ public abstract class Type<T> implements Owner<T> {
     public <X, Y> boolean assignable(final Type<X> receiverType, final Type<Y> payloadType) {
       if (receiverType == Objects.requireNonNull(payloadType, "payloadType")) {
         return true;
-      } else if (receiverType.hasTypeArguments()) {
-        return parameterizedTypeIsAssignableFromType(receiverType, payloadType);
-      } else if (payloadType.hasTypeArguments()) {
-        return this.nonParameterizedTypeIsAssignableFromParameterizedType(receiverType, payloadType);
-      } else if (receiverType.componentType() == null) {
-        if (receiverType.lowerBounded()) {
-          return this.wildcardTypeIsAssignableFromNonParameterizedType(receiverType, true, payloadType);
-        } else if (receiverType.upperBounded()) {
-          if (receiverType.named()) {
-            return this.typeVariableIsAssignableFromNonParameterizedType(receiverType, payloadType);
-          } else {
-            return this.wildcardTypeIsAssignableFromNonParameterizedType(receiverType, false, payloadType);
-          }
-        } else {
-          return this.classIsAssignableFromNonParameterizedType(receiverType, payloadType);
-        }
-      } else if (receiverType.type() == receiverType) {
-        return this.classIsAssignableFromNonParameterizedType(receiverType, payloadType);
-      } else {
-        return this.genericArrayTypeIsAssignableFromNonParameterizedType(receiverType, payloadType);
       }
+      final AssignabilityEvent event = new AssignabilityEvent();
+      if (!event.isEnabled()) {
+        return this.assignable0(receiverType, payloadType);
+      }
+      event.begin();
+      final int depth = AssignabilityEvent.enter();
+      final boolean returnValue;
+      try {
+        returnValue = this.assignable0(receiverType, payloadType);
+      } finally {
+        AssignabilityEvent.exit();
+      }
+      event.end();
+      if (event.shouldCommit()) {
+        event.receiverType = AssignabilityEvent.name(receiverType);
+        event.payloadType = AssignabilityEvent.name(payloadType);
+        event.semantics = this.getClass();
+        event.assignable = returnValue;
+        event.depth = depth;
+        event.commit();
+      }
+      return returnValue;
     }
 
-    private final <X, Y> boolean nonParameterizedTypeIsAssignableFromParameterizedType(final Type<X> receiverNonParameterizedType,
-                                                                                       final Type<Y> payloadParameterizedType) {
-      if (receiverNonParameterizedType.componentType() == null) {
-        if (receiverNonParameterizedType.lowerBounded()) {
-          return this.wildcardTypeIsAssignableFromParameterizedType(receiverNonParameterizedType, true /* lower bounded */, payloadParameterizedType);
-        } else if (receiverNonParameterizedType.upperBounded()) {
-          if (receiverNonParameterizedType.named()) {
-            return this.typeVariableIsAssignableFromParameterizedType(receiverNonParameterizedType, payloadParameterizedType);
-          } else {
-            return this.wildcardTypeIsAssignableFromParameterizedType(receiverNonParameterizedType, false /* upper bounded */, payloadParameterizedType);
-          }
-        } else {
-          return this.classIsAssignableFromParameterizedType(receiverNonParameterizedType, payloadParameterizedType);
-        }
-      } else if (receiverNonParameterizedType.type() == receiverNonParameterizedType) {
-        return this.classIsAssignableFromParameterizedType(receiverNonParameterizedType, payloadParameterizedType);
-      } else {
-        return this.genericArrayTypeIsAssignableFromParameterizedType(receiverNonParameterizedType, payloadParameterizedType);
+    private final <X, Y> boolean assignable0(final Type<X> receiverType, final Type<Y> payloadType) {
+      final Kind payloadKind = payloadType.kind();
+      switch (receiverType.kind()) {
+      case PARAMETERIZED_TYPE:
+        return this.parameterizedTypeIsAssignableFromType(receiverType, payloadKind, payloadType);
+      case GENERIC_ARRAY_TYPE:
+        return this.genericArrayTypeIsAssignableFromType(receiverType, payloadKind, payloadType);
+      case TYPE_VARIABLE:
+        return this.typeVariableIsAssignableFromType(receiverType, payloadKind, payloadType);
+      case LOWER_BOUNDED_WILDCARD:
+        return this.wildcardTypeIsAssignableFromType(receiverType, true, payloadKind, payloadType);
+      case UPPER_BOUNDED_WILDCARD:
+        return this.wildcardTypeIsAssignableFromType(receiverType, false, payloadKind, payloadType);
+      case CLASS:
+      case CUSTOM_SUPERTYPED:
+      default:
+        return this.classIsAssignableFromType(receiverType, payloadKind, payloadType);
       }
     }
 
-    private final <X, Y> boolean classIsAssignableFromNonParameterizedType(final Type<X> receiverClass,
-                                                                           final Type<Y> payloadNonParameterizedType) {
-      if (payloadNonParameterizedType.componentType() == null) {
-        if (payloadNonParameterizedType.lowerBounded()) {
-          return this.classIsAssignableFromWildcardType(receiverClass, payloadNonParameterizedType, true);
-        } else if (payloadNonParameterizedType.upperBounded()) {
-          if (payloadNonParameterizedType.named()) {
-            return this.classIsAssignableFromTypeVariable(receiverClass, payloadNonParameterizedType);
-          } else {
-            return this.classIsAssignableFromWildcardType(receiverClass, payloadNonParameterizedType, false);
-          }
-        } else {
-          return this.classIsAssignableFromClass(receiverClass, payloadNonParameterizedType);
-        }
-      } else if (payloadNonParameterizedType.type() == payloadNonParameterizedType) {
-        return this.classIsAssignableFromClass(receiverClass, payloadNonParameterizedType);
-      } else {
-        return this.classIsAssignableFromGenericArrayType(receiverClass, payloadNonParameterizedType);
+    private final <X, Y> boolean classIsAssignableFromType(final Type<X> receiverClass,
+                                                           final Kind payloadKind,
+                                                           final Type<Y> payloadType) {
+      switch (payloadKind) {
+      case PARAMETERIZED_TYPE:
+        return this.classIsAssignableFromParameterizedType(receiverClass, payloadType);
+      case GENERIC_ARRAY_TYPE:
+        return this.classIsAssignableFromGenericArrayType(receiverClass, payloadType);
+      case TYPE_VARIABLE:
+        return this.classIsAssignableFromTypeVariable(receiverClass, payloadType);
+      case LOWER_BOUNDED_WILDCARD:
+        return this.classIsAssignableFromWildcardType(receiverClass, payloadType, true);
+      case UPPER_BOUNDED_WILDCARD:
+        return this.classIsAssignableFromWildcardType(receiverClass, payloadType, false);
+      case CLASS:
+      case CUSTOM_SUPERTYPED:
+      default:
+        return this.classIsAssignableFromClass(receiverClass, payloadType);
       }
     }
 
@@ -2268,25 +2912,24 @@ public abstract class Type<T> implements Owner<T> {
       return false;
     }
 
-    private final <X, Y> boolean parameterizedTypeIsAssignableFromType(final Type<X> receiverParameterizedType, final Type<Y> payloadType) {
-      if (payloadType.hasTypeArguments()) {
+    private final <X, Y> boolean parameterizedTypeIsAssignableFromType(final Type<X> receiverParameterizedType,
+                                                                       final Kind payloadKind,
+                                                                       final Type<Y> payloadType) {
+      switch (payloadKind) {
+      case PARAMETERIZED_TYPE:
         return this.parameterizedTypeIsAssignableFromParameterizedType(receiverParameterizedType, payloadType);
-      } else if (payloadType.componentType() == null) {
-        if (payloadType.lowerBounded()) {
-          return this.parameterizedTypeIsAssignableFromWildcardType(receiverParameterizedType, payloadType, true);
-        } else if (payloadType.upperBounded()) {
-          if (payloadType.named()) {
-            return this.parameterizedTypeIsAssignableFromTypeVariable(receiverParameterizedType, payloadType);
-          } else {
-            return this.parameterizedTypeIsAssignableFromWildcardType(receiverParameterizedType, payloadType, false);
-          }
-        } else {
-          return this.parameterizedTypeIsAssignableFromClass(receiverParameterizedType, payloadType);
-        }
-      } else if (payloadType.type() == payloadType) {
-        return this.parameterizedTypeIsAssignableFromClass(receiverParameterizedType, payloadType);
-      } else {
+      case GENERIC_ARRAY_TYPE:
         return this.parameterizedTypeIsAssignableFromGenericArrayType(receiverParameterizedType, payloadType);
+      case TYPE_VARIABLE:
+        return this.parameterizedTypeIsAssignableFromTypeVariable(receiverParameterizedType, payloadType);
+      case LOWER_BOUNDED_WILDCARD:
+        return this.parameterizedTypeIsAssignableFromWildcardType(receiverParameterizedType, payloadType, true);
+      case UPPER_BOUNDED_WILDCARD:
+        return this.parameterizedTypeIsAssignableFromWildcardType(receiverParameterizedType, payloadType, false);
+      case CLASS:
+      case CUSTOM_SUPERTYPED:
+      default:
+        return this.parameterizedTypeIsAssignableFromClass(receiverParameterizedType, payloadType);
       }
     }
 
@@ -2530,24 +3173,24 @@ public abstract class Type<T> implements Owner<T> {
       return false;
     }
 
-    private final <X, Y> boolean genericArrayTypeIsAssignableFromNonParameterizedType(final Type<X> receiverGenericArrayType,
-                                                                                      final Type<Y> payloadNonParameterizedType) {
-      if (payloadNonParameterizedType.componentType() == null) {
-        if (payloadNonParameterizedType.lowerBounded()) {
-          return this.genericArrayTypeIsAssignableFromWildcardType(receiverGenericArrayType, payloadNonParameterizedType, true);
-        } else if (payloadNonParameterizedType.upperBounded()) {
-          if (payloadNonParameterizedType.named()) {
-            return this.genericArrayTypeIsAssignableFromTypeVariable(receiverGenericArrayType, payloadNonParameterizedType);
-          } else {
-            return this.genericArrayTypeIsAssignableFromWildcardType(receiverGenericArrayType, payloadNonParameterizedType, false);
-          }
-        } else {
-          return this.genericArrayTypeIsAssignableFromClass(receiverGenericArrayType, payloadNonParameterizedType);
-        }
-      } else if (payloadNonParameterizedType.type() == payloadNonParameterizedType) {
-        return this.genericArrayTypeIsAssignableFromClass(receiverGenericArrayType, payloadNonParameterizedType);
-      } else {
-        return this.genericArrayTypeIsAssignableFromGenericArrayType(receiverGenericArrayType, payloadNonParameterizedType);
+    private final <X, Y> boolean genericArrayTypeIsAssignableFromType(final Type<X> receiverGenericArrayType,
+                                                                      final Kind payloadKind,
+                                                                      final Type<Y> payloadType) {
+      switch (payloadKind) {
+      case PARAMETERIZED_TYPE:
+        return this.genericArrayTypeIsAssignableFromParameterizedType(receiverGenericArrayType, payloadType);
+      case GENERIC_ARRAY_TYPE:
+        return this.genericArrayTypeIsAssignableFromGenericArrayType(receiverGenericArrayType, payloadType);
+      case TYPE_VARIABLE:
+        return this.genericArrayTypeIsAssignableFromTypeVariable(receiverGenericArrayType, payloadType);
+      case LOWER_BOUNDED_WILDCARD:
+        return this.genericArrayTypeIsAssignableFromWildcardType(receiverGenericArrayType, payloadType, true);
+      case UPPER_BOUNDED_WILDCARD:
+        return this.genericArrayTypeIsAssignableFromWildcardType(receiverGenericArrayType, payloadType, false);
+      case CLASS:
+      case CUSTOM_SUPERTYPED:
+      default:
+        return this.genericArrayTypeIsAssignableFromClass(receiverGenericArrayType, payloadType);
       }
     }
 
@@ -2788,24 +3431,24 @@ public abstract class Type<T> implements Owner<T> {
       return false;
     }
 
-    private final <X, Y> boolean typeVariableIsAssignableFromNonParameterizedType(final Type<X> receiverTypeVariable,
-                                                                                  final Type<Y> payloadNonParameterizedType) {
-      if (payloadNonParameterizedType.componentType() == null) {
-        if (payloadNonParameterizedType.lowerBounded()) {
-          return this.typeVariableIsAssignableFromWildcardType(receiverTypeVariable, payloadNonParameterizedType, true);
-        } else if (payloadNonParameterizedType.upperBounded()) {
-          if (payloadNonParameterizedType.named()) {
-            return this.typeVariableIsAssignableFromTypeVariable(receiverTypeVariable, payloadNonParameterizedType);
-          } else {
-            return this.typeVariableIsAssignableFromWildcardType(receiverTypeVariable, payloadNonParameterizedType, false);
-          }
-        } else {
-          return this.typeVariableIsAssignableFromClass(receiverTypeVariable, payloadNonParameterizedType);
-        }
-      } else if (payloadNonParameterizedType.type() == payloadNonParameterizedType) {
-        return this.typeVariableIsAssignableFromClass(receiverTypeVariable, payloadNonParameterizedType);
-      } else {
-        return this.typeVariableIsAssignableFromGenericArrayType(receiverTypeVariable, payloadNonParameterizedType);
+    private final <X, Y> boolean typeVariableIsAssignableFromType(final Type<X> receiverTypeVariable,
+                                                                  final Kind payloadKind,
+                                                                  final Type<Y> payloadType) {
+      switch (payloadKind) {
+      case PARAMETERIZED_TYPE:
+        return this.typeVariableIsAssignableFromParameterizedType(receiverTypeVariable, payloadType);
+      case GENERIC_ARRAY_TYPE:
+        return this.typeVariableIsAssignableFromGenericArrayType(receiverTypeVariable, payloadType);
+      case TYPE_VARIABLE:
+        return this.typeVariableIsAssignableFromTypeVariable(receiverTypeVariable, payloadType);
+      case LOWER_BOUNDED_WILDCARD:
+        return this.typeVariableIsAssignableFromWildcardType(receiverTypeVariable, payloadType, true);
+      case UPPER_BOUNDED_WILDCARD:
+        return this.typeVariableIsAssignableFromWildcardType(receiverTypeVariable, payloadType, false);
+      case CLASS:
+      case CUSTOM_SUPERTYPED:
+      default:
+        return this.typeVariableIsAssignableFromClass(receiverTypeVariable, payloadType);
       }
     }
 
@@ -3047,25 +3690,25 @@ public abstract class Type<T> implements Owner<T> {
       return false;
     }
 
-    private final <X, Y> boolean wildcardTypeIsAssignableFromNonParameterizedType(final Type<X> receiverWildcardType,
-                                                                           final boolean lowerBounded,
-                                                                           final Type<Y> payloadNonParameterizedType) {
-      if (payloadNonParameterizedType.componentType() == null) {
-        if (payloadNonParameterizedType.lowerBounded()) {
-          return this.wildcardTypeIsAssignableFromWildcardType(receiverWildcardType, lowerBounded, payloadNonParameterizedType, true);
-        } else if (payloadNonParameterizedType.upperBounded()) {
-          if (payloadNonParameterizedType.named()) {
-            return this.wildcardTypeIsAssignableFromTypeVariable(receiverWildcardType, lowerBounded, payloadNonParameterizedType);
-          } else {
-            return this.wildcardTypeIsAssignableFromWildcardType(receiverWildcardType, lowerBounded, payloadNonParameterizedType, false);
-          }
-        } else {
-          return this.wildcardTypeIsAssignableFromClass(receiverWildcardType, lowerBounded, payloadNonParameterizedType);
-        }
-      } else if (payloadNonParameterizedType.type() == payloadNonParameterizedType) {
-        return this.wildcardTypeIsAssignableFromClass(receiverWildcardType, lowerBounded, payloadNonParameterizedType);
-      } else {
-        return this.wildcardTypeIsAssignableFromGenericArrayType(receiverWildcardType, lowerBounded, payloadNonParameterizedType);
+    private final <X, Y> boolean wildcardTypeIsAssignableFromType(final Type<X> receiverWildcardType,
+                                                                  final boolean lowerBounded,
+                                                                  final Kind payloadKind,
+                                                                  final Type<Y> payloadType) {
+      switch (payloadKind) {
+      case PARAMETERIZED_TYPE:
+        return this.wildcardTypeIsAssignableFromParameterizedType(receiverWildcardType, lowerBounded, payloadType);
+      case GENERIC_ARRAY_TYPE:
+        return this.wildcardTypeIsAssignableFromGenericArrayType(receiverWildcardType, lowerBounded, payloadType);
+      case TYPE_VARIABLE:
+        return this.wildcardTypeIsAssignableFromTypeVariable(receiverWildcardType, lowerBounded, payloadType);
+      case LOWER_BOUNDED_WILDCARD:
+        return this.wildcardTypeIsAssignableFromWildcardType(receiverWildcardType, lowerBounded, payloadType, true);
+      case UPPER_BOUNDED_WILDCARD:
+        return this.wildcardTypeIsAssignableFromWildcardType(receiverWildcardType, lowerBounded, payloadType, false);
+      case CLASS:
+      case CUSTOM_SUPERTYPED:
+      default:
+        return this.wildcardTypeIsAssignableFromClass(receiverWildcardType, lowerBounded, payloadType);
       }
     }
 
@@ -3360,6 +4003,29 @@ public abstract class Type<T> implements Owner<T> {
      */
 
 
+    /**
+     * Returns {@code true} when invoked.
+     *
+     * <p>Every assignability rule implemented by this class and its
+     * subclasses in this package between {@linkplain Kind#CLASS
+     * classes} and {@linkplain Kind#PARAMETERIZED_TYPE parameterized
+     * types} ultimately compares the receiver type with one of the
+     * payload type's {@linkplain Type#supertypes() supertypes} that
+     * has the same {@linkplain Type#type() raw type}.</p>
+     *
+     * @return {@code true} when invoked
+     *
+     * @idempotency This method is, and its overrides must be,
+     * idempotent and deterministic.
+     *
+     * @threadsafety This method is, and its overrides must be, safe
+     * for concurrent use by multiple threads.
+     */
+    @Override // Semantics
+    protected boolean erasureMatchRequired() {
+      return true;
+    }
+
     /**
      * Returns {@code true} if and only if a reference bearing the
      * type modeled by the supplied {@code payloadClass} is assignable
@@ -3815,6 +4481,24 @@ public abstract class Type<T> implements Owner<T> {
       return this.assignable(JavaType.of(true, receiverType), JavaType.of(true, payloadType));
     }
 
+    /**
+     * Returns {@code true} in all cases, since boxing is always
+     * required in CDI.
+     *
+     * @param ignoredBox ignored
+     *
+     * @return {@code true} in all cases
+     *
+     * @idempotency This method is idempotent and deterministic.
+     *
+     * @threadsafety This method is safe for concurrent use by
+     * multiple threads.
+     */
+    @Override // Semantics
+    protected final boolean boxing(final boolean ignoredBox) {
+      return true;
+    }
+
     @Override
     protected final <X, Y> boolean classIsAssignableFromParameterizedType(final Type<X> receiverClass,
                                                                           final Type<Y> payloadParameterizedType) {
@@ -4115,4 +4799,289 @@ public abstract class Type<T> implements Owner<T> {
 
     }
   }
+
+  /**
+   * A {@link Semantics} that decorates another {@link Semantics},
+   * memoizing the results of its {@link #assignable(Type, Type)}
+   * method in a size-bounded, thread-safe cache.
+   *
+   * <p>Assignability is idempotent and deterministic, so cached
+   * results never need to be invalidated.  However, the cache holds
+   * the {@link Type}s it has seen strongly until they are evicted, so
+   * it should be sized (or {@linkplain #clear() cleared}) accordingly
+   * in environments where {@link ClassLoader}s come and go.</p>
+   *
+   * <p>Any {@link Semantics} may be decorated, including {@link
+   * CovariantSemantics}, {@link InvariantSemantics}, {@link
+   * CdiSemantics} and user subclasses.  Only top-level {@link
+   * #assignable(Type, Type)} invocations are memoized; invocations
+   * the decorated {@link Semantics} makes on itself are not.</p>
+   *
+   * @author <a href="https://about.me/lairdnelson"
+   * target="_parent">Laird Nelson</a>
+   */
+  @Experimental
+  public static class CachingSemantics extends Semantics {
+
+
+    /*
+     * Instance fields.
+     */
+
+
+    private final Semantics delegate;
+
+    private final BoundedCache<AssignabilityKey, Boolean> cache;
+
+
+    /*
+     * Constructors.
+     */
+
+
+    /**
+     * Creates a new {@link CachingSemantics} that can memoize up to
+     * {@code 8192} results, evicting them in {@linkplain
+     * EvictionPolicy#LEAST_RECENTLY_USED least-recently-used} order.
+     *
+     * @param delegate the {@link Semantics} to decorate; must not be
+     * {@code null}
+     *
+     * @exception NullPointerException if {@code delegate} is {@code
+     * null}
+     *
+     * @see #CachingSemantics(Semantics, int, EvictionPolicy)
+     */
+    public CachingSemantics(final Semantics delegate) {
+      this(delegate, 8192, EvictionPolicy.LEAST_RECENTLY_USED);
+    }
+
+    /**
+     * Creates a new {@link CachingSemantics}.
+     *
+     * @param delegate the {@link Semantics} to decorate; must not be
+     * {@code null}
+     *
+     * @param maximumSize the maximum number of results to memoize;
+     * must not be negative; if {@code 0} nothing will be memoized
+     *
+     * @param evictionPolicy the {@link EvictionPolicy} governing which
+     * results are evicted once more than {@code maximumSize} results
+     * are memoized; must not be {@code null}
+     *
+     * @exception NullPointerException if {@code delegate} or {@code
+     * evictionPolicy} is {@code null}
+     *
+     * @exception IllegalArgumentException if {@code maximumSize} is
+     * negative
+     */
+    public CachingSemantics(final Semantics delegate, final int maximumSize, final EvictionPolicy evictionPolicy) {
+      super();
+      this.delegate = Objects.requireNonNull(delegate, "delegate");
+      this.cache =
+        new BoundedCache<>(maximumSize,
+                           Objects.requireNonNull(evictionPolicy, "evictionPolicy") == EvictionPolicy.LEAST_RECENTLY_USED);
+    }
+
+
+    /*
+     * Instance methods.
+     */
+
+
+    /**
+     * Returns the {@link Semantics} this {@link CachingSemantics}
+     * decorates.
+     *
+     * @return the {@link Semantics} this {@link CachingSemantics}
+     * decorates; never {@code null}
+     *
+     * @nullability This method never returns {@code null}.
+     *
+     * @idempotency This method is idempotent and deterministic.
+     *
+     * @threadsafety This method is safe for concurrent use by
+     * multiple threads.
+     */
+    public final Semantics delegate() {
+      return this.delegate;
+    }
+
+    /**
+     * Returns the result of invoking the {@link
+     * Semantics#assignable(Type, Type)} method on the {@linkplain
+     * #delegate() decorated <code>Semantics</code>} with the supplied
+     * arguments, or a memoized result of a prior such invocation with
+     * {@linkplain Type#equals(Object) equal} arguments.
+     *
+     * @param <X> the kind of type modeled by the {@code
+     * receiverType}; often a {@link java.lang.reflect.Type
+     * java.lang.reflect.Type}
+     *
+     * @param <Y> the kind of type modeled by the {@code payloadType};
+     * often a {@link java.lang.reflect.Type java.lang.reflect.Type}
+     *
+     * @param receiverType the receiver type; must not be {@code null}
+     *
+     * @param payloadType the payload type; must not be {@code null}
+     *
+     * @return {@code true} if and only if the {@linkplain #delegate()
+     * decorated <code>Semantics</code>} deems the supplied {@code
+     * payloadType} assignable to the supplied {@code receiverType}
+     *
+     * @exception NullPointerException if either {@code receiverType}
+     * or {@code payloadType} is {@code null}
+     *
+     * @idempotency This method is idempotent and deterministic.
+     *
+     * @threadsafety This method is safe for concurrent use by
+     * multiple threads.
+     */
+    @Override // Semantics
+    public final <X, Y> boolean assignable(final Type<X> receiverType, final Type<Y> payloadType) {
+      return
+        this.cache.computeIfAbsent(new AssignabilityKey(receiverType, payloadType),
+                                   k -> this.delegate.assignable(receiverType, payloadType) ? Boolean.TRUE : Boolean.FALSE)
+        .booleanValue();
+    }
+
+    @Override // Semantics
+    protected final boolean boxing(final boolean box) {
+      return this.delegate.boxing(box);
+    }
+
+    @Override // Semantics
+    protected final boolean erasureMatchRequired() {
+      return this.delegate.erasureMatchRequired();
+    }
+
+    /**
+     * Discards all memoized results.
+     *
+     * @threadsafety This method is safe for concurrent use by
+     * multiple threads.
+     */
+    public final void clear() {
+      this.cache.clear();
+    }
+
+    /**
+     * Returns the number of results currently memoized.
+     *
+     * @return the number of results currently memoized
+     *
+     * @threadsafety This method is safe for concurrent use by
+     * multiple threads.
+     */
+    public final int size() {
+      return this.cache.size();
+    }
+
+    /**
+     * Returns the number of {@link #assignable(Type, Type)}
+     * invocations so far that were satisfied by a memoized result.
+     *
+     * @return the number of cache hits so far
+     *
+     * @threadsafety This method is safe for concurrent use by
+     * multiple threads.
+     */
+    public final long hits() {
+      return this.cache.hits();
+    }
+
+    /**
+     * Returns the number of {@link #assignable(Type, Type)}
+     * invocations so far that had to consult the {@linkplain
+     * #delegate() decorated <code>Semantics</code>}.
+     *
+     * @return the number of cache misses so far
+     *
+     * @threadsafety This method is safe for concurrent use by
+     * multiple threads.
+     */
+    public final long misses() {
+      return this.cache.misses();
+    }
+
+    /**
+     * Returns the number of memoized results evicted so far.
+     *
+     * @return the number of evictions so far
+     *
+     * @threadsafety This method is safe for concurrent use by
+     * multiple threads.
+     */
+    public final long evictions() {
+      return this.cache.evictions();
+    }
+
+
+    /*
+     * Inner and nested classes.
+     */
+
+
+    /**
+     * A policy governing which memoized results a {@link
+     * CachingSemantics} evicts when it is full.
+     *
+     * @author <a href="https://about.me/lairdnelson"
+     * target="_parent">Laird Nelson</a>
+     */
+    public static enum EvictionPolicy {
+
+      /**
+       * Results are evicted in the order in which they were
+       * memoized.
+       */
+      FIRST_IN_FIRST_OUT,
+
+      /**
+       * Results are evicted in an approximation of least-recently-used
+       * order: a result that has been read since it was last
+       * considered for eviction is given a second chance.
+       */
+      LEAST_RECENTLY_USED;
+
+    }
+
+    private static final class AssignabilityKey {
+
+      private final Type<?> receiverType;
+
+      private final Type<?> payloadType;
+
+      private final int hashCode;
+
+      private AssignabilityKey(final Type<?> receiverType, final Type<?> payloadType) {
+        super();
+        this.receiverType = Objects.requireNonNull(receiverType, "receiverType");
+        this.payloadType = Objects.requireNonNull(payloadType, "payloadType");
+        this.hashCode = 31 * receiverType.hashCode() + payloadType.hashCode();
+      }
+
+      @Override // Object
+      public final int hashCode() {
+        return this.hashCode;
+      }
+
+      @Override // Object
+      public final boolean equals(final Object other) {
+        if (other == this) {
+          return true;
+        } else if (other != null && other.getClass() == this.getClass()) {
+          final AssignabilityKey her = (AssignabilityKey)other;
+          return
+            Type.equals(this.receiverType, her.receiverType) &&
+            Type.equals(this.payloadType, her.payloadType);
+        } else {
+          return false;
+        }
+      }
+
+    }
+
+  }
+
 }
@@ -0,0 +1,563 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.microbean.development.annotation.Experimental;
+
+/**
+ * A directed acyclic graph of registered {@link Type}s whose edges
+ * are their {@linkplain Type#directSupertypes() direct supertype}
+ * relationships, recorded in both directions, so that the
+ * {@linkplain #knownSubtypes(Type) known subtypes} of a {@link Type}
+ * can be found as cheaply as its {@linkplain #knownSupertypes(Type)
+ * known supertypes}.
+ *
+ * <p>{@linkplain #add(Type) Adding} a {@link Type} also adds all of
+ * its {@linkplain Type#supertypes() supertypes}, so the upward
+ * closure of every registered {@link Type} is always present.  Its
+ * downward closure contains only those subtypes that have been
+ * added.  Additions are incremental: they append to the existing
+ * adjacency arrays and never cause the graph to be rebuilt.</p>
+ *
+ * <p>{@link Type}s are identified by {@linkplain Type#equals(Object)
+ * equality}, not identity.</p>
+ *
+ * <p>A {@link TypeGraph} holds strong references to every {@link
+ * Type} it has registered.  It is intended to be scoped to a
+ * well-defined unit of work (such as a container's bean discovery
+ * phase) and discarded afterwards.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ *
+ * @see #knownSubtypes(Type)
+ *
+ * @see TypeRegistry
+ */
+@Experimental
+public final class TypeGraph {
+
+
+  /*
+   * Static fields.
+   */
+
+
+  private static final int[] EMPTY_INT_ARRAY = new int[0];
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  private final ConcurrentMap<Type<?>, Integer> ids;
+
+  // Guarded by this.
+  private Type<?>[] types;
+
+  // Guarded by this.  up[id] holds the identifiers of the direct
+  // supertypes of the Type identified by id, and is null until its
+  // edges have been recorded.
+  private int[][] up;
+
+  // Guarded by this.  down[id] holds, in its first downSizes[id]
+  // slots, the identifiers of the registered direct subtypes of the
+  // Type identified by id.
+  private int[][] down;
+
+  // Guarded by this.
+  private int[] downSizes;
+
+  // Guarded by this.
+  private int size;
+
+  // Guarded by this.  Scratch space for traversals, reused so that a
+  // query costs time proportional to the part of the graph it
+  // visits: marks[id] == epoch if and only if the Type identified by
+  // id has been visited by the current traversal.
+  private int[] marks;
+
+  // Guarded by this.
+  private int epoch;
+
+  // Guarded by this.  Grown as needed.
+  private int[] queue;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  /**
+   * Creates a new, empty {@link TypeGraph}.
+   */
+  public TypeGraph() {
+    super();
+    this.ids = new ConcurrentHashMap<>();
+    this.types = new Type<?>[64];
+    this.up = new int[64][];
+    this.down = new int[64][];
+    this.downSizes = new int[64];
+    this.marks = new int[64];
+    this.queue = new int[16];
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Adds the supplied {@link Type}, together with all of its
+   * {@linkplain Type#supertypes() supertypes}, to this {@link
+   * TypeGraph} if it has not already been added.
+   *
+   * @param type the {@link Type} to add; must not be {@code null}
+   *
+   * @return {@code true} if and only if the supplied {@link Type} was
+   * not already present
+   *
+   * @exception NullPointerException if {@code type} is {@code null}
+   *
+   * @idempotency This method is idempotent.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final boolean add(final Type<?> type) {
+    if (this.ids.containsKey(Objects.requireNonNull(type, "type"))) {
+      return false;
+    }
+    // Discover the unregistered part of the supertype closure without
+    // holding the lock; direct supertypes are cached by each Type.
+    // Every direct supertype of a discovered Type is either
+    // discovered or already registered.
+    final Map<Type<?>, List<? extends Type<?>>> discovered = new LinkedHashMap<>();
+    final ArrayDeque<Type<?>> q = new ArrayDeque<>();
+    q.add(type);
+    while (!q.isEmpty()) {
+      final Type<?> t = q.poll();
+      if (!discovered.containsKey(t) && !this.ids.containsKey(t)) {
+        final List<? extends Type<?>> directSupertypes = t.directSupertypes();
+        discovered.put(t, directSupertypes);
+        q.addAll(directSupertypes);
+      }
+    }
+    synchronized (this) {
+      if (this.ids.containsKey(type)) {
+        // Another thread got here first.
+        return false;
+      }
+      for (final Type<?> t : discovered.keySet()) {
+        if (!this.ids.containsKey(t)) {
+          this.register(t);
+        }
+      }
+      for (final Map.Entry<Type<?>, List<? extends Type<?>>> e : discovered.entrySet()) {
+        final int id = this.ids.get(e.getKey());
+        if (this.up[id] == null) {
+          this.link(id, e.getValue());
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Adds each of the supplied {@link Type}s to this {@link TypeGraph}
+   * as if by the {@link #add(Type)} method.
+   *
+   * @param types the {@link Type}s to add; must not be {@code null}
+   * and must not contain {@code null} elements
+   *
+   * @return {@code true} if and only if at least one of the supplied
+   * {@link Type}s was not already present
+   *
+   * @exception NullPointerException if {@code types} is {@code null}
+   * or contains {@code null} elements
+   *
+   * @idempotency This method is idempotent.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #add(Type)
+   */
+  public final boolean addAll(final Collection<? extends Type<?>> types) {
+    boolean changed = false;
+    for (final Type<?> type : types) {
+      if (this.add(type)) {
+        changed = true;
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * Returns {@code true} if and only if the supplied {@link Type} has
+   * been added to this {@link TypeGraph}, either directly or as a
+   * supertype of another added {@link Type}.
+   *
+   * @param type the {@link Type}; must not be {@code null}
+   *
+   * @return {@code true} if and only if the supplied {@link Type} is
+   * present
+   *
+   * @exception NullPointerException if {@code type} is {@code null}
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final boolean contains(final Type<?> type) {
+    return this.ids.containsKey(Objects.requireNonNull(type, "type"));
+  }
+
+  /**
+   * Returns the number of {@link Type}s present in this {@link
+   * TypeGraph}.
+   *
+   * @return the number of {@link Type}s present
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final int size() {
+    synchronized (this) {
+      return this.size;
+    }
+  }
+
+  /**
+   * Returns an immutable {@link List} of the {@linkplain
+   * Type#directSupertypes() direct supertypes} of the supplied {@link
+   * Type}, or an {@linkplain List#isEmpty() empty <code>List</code>}
+   * if the supplied {@link Type} is not present.
+   *
+   * @param type the {@link Type}; must not be {@code null}
+   *
+   * @return an immutable {@link List}; never {@code null}
+   *
+   * @exception NullPointerException if {@code type} is {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final List<Type<?>> directSupertypes(final Type<?> type) {
+    final Integer id = this.ids.get(Objects.requireNonNull(type, "type"));
+    if (id == null) {
+      return List.of();
+    }
+    synchronized (this) {
+      final int[] up = this.up[id];
+      return this.types(up, up.length);
+    }
+  }
+
+  /**
+   * Returns an immutable {@link List} of the present {@link Type}s
+   * whose {@linkplain Type#directSupertypes() direct supertypes}
+   * include the supplied {@link Type}.
+   *
+   * @param type the {@link Type}; must not be {@code null}
+   *
+   * @return an immutable {@link List}; never {@code null}
+   *
+   * @exception NullPointerException if {@code type} is {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final List<Type<?>> directSubtypes(final Type<?> type) {
+    final Integer id = this.ids.get(Objects.requireNonNull(type, "type"));
+    if (id == null) {
+      return List.of();
+    }
+    synchronized (this) {
+      return this.types(this.down[id], this.downSizes[id]);
+    }
+  }
+
+  /**
+   * Returns an immutable {@link List} of the present supertypes of
+   * the supplied {@link Type}, in breadth-first order, without
+   * duplicates, or an {@linkplain List#isEmpty() empty
+   * <code>List</code>} if the supplied {@link Type} is not present.
+   *
+   * <p><strong>The supertypes of a type include the type
+   * itself.</strong></p>
+   *
+   * @param type the {@link Type}; must not be {@code null}
+   *
+   * @return an immutable {@link List}; never {@code null}
+   *
+   * @exception NullPointerException if {@code type} is {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see Type#supertypes()
+   */
+  public final List<Type<?>> knownSupertypes(final Type<?> type) {
+    final Integer id = this.ids.get(Objects.requireNonNull(type, "type"));
+    if (id == null) {
+      return List.of();
+    }
+    synchronized (this) {
+      return this.closure(id, true);
+    }
+  }
+
+  /**
+   * Returns an immutable {@link List} of the present subtypes of the
+   * supplied {@link Type}, in breadth-first order, without
+   * duplicates, or an {@linkplain List#isEmpty() empty
+   * <code>List</code>} if the supplied {@link Type} is not present.
+   *
+   * <p><strong>The subtypes of a type include the type
+   * itself.</strong></p>
+   *
+   * <p>The cost of this method is proportional to the number of
+   * subtypes returned and the edges among them, not to the number of
+   * {@link Type}s present.</p>
+   *
+   * @param type the {@link Type}; must not be {@code null}
+   *
+   * @return an immutable {@link List}; never {@code null}
+   *
+   * @exception NullPointerException if {@code type} is {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see Type#subtypeOf(Type)
+   */
+  public final List<Type<?>> knownSubtypes(final Type<?> type) {
+    final Integer id = this.ids.get(Objects.requireNonNull(type, "type"));
+    if (id == null) {
+      return List.of();
+    }
+    synchronized (this) {
+      return this.closure(id, false);
+    }
+  }
+
+  /**
+   * Returns {@code true} if and only if both supplied {@link Type}s
+   * are present and {@code sup} is reachable from {@code sub} by
+   * following direct supertype edges, i.e. if {@code sub} is a
+   * subtype of {@code sup}.
+   *
+   * <p>This method does not add either {@link Type}.  Its cost is
+   * proportional to the number of supertypes of {@code sub} it visits
+   * before finding {@code sup}, not to the number of {@link Type}s
+   * present.</p>
+   *
+   * @param sub the purported subtype; must not be {@code null}
+   *
+   * @param sup the purported supertype; must not be {@code null}
+   *
+   * @return {@code true} if and only if both supplied {@link Type}s
+   * are present and {@code sub} is a subtype of {@code sup}
+   *
+   * @exception NullPointerException if either argument is {@code
+   * null}
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see Type#subtypeOf(Type)
+   */
+  public final boolean subtype(final Type<?> sub, final Type<?> sup) {
+    final Integer subId = this.ids.get(Objects.requireNonNull(sub, "sub"));
+    final Integer supId = this.ids.get(Objects.requireNonNull(sup, "sup"));
+    if (subId == null || supId == null) {
+      return false;
+    } else if (subId.intValue() == supId.intValue()) {
+      return true;
+    }
+    synchronized (this) {
+      final int epoch = this.nextEpoch();
+      int head = 0;
+      int tail = 0;
+      this.queue[tail++] = subId;
+      this.marks[subId] = epoch;
+      while (head < tail) {
+        for (final int s : this.up[this.queue[head++]]) {
+          if (s == supId) {
+            return true;
+          } else if (this.marks[s] != epoch) {
+            this.marks[s] = epoch;
+            if (tail == this.queue.length) {
+              this.queue = Arrays.copyOf(this.queue, tail << 1);
+            }
+            this.queue[tail++] = s;
+          }
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Returns {@code true} if and only if both supplied {@link Type}s
+   * are present and {@code sup} is a supertype of {@code sub}.
+   *
+   * <p>This method simply calls the {@link #subtype(Type, Type)}
+   * method with its arguments reversed.</p>
+   *
+   * @param sup the purported supertype; must not be {@code null}
+   *
+   * @param sub the purported subtype; must not be {@code null}
+   *
+   * @return {@code true} if and only if both supplied {@link Type}s
+   * are present and {@code sup} is a supertype of {@code sub}
+   *
+   * @exception NullPointerException if either argument is {@code
+   * null}
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #subtype(Type, Type)
+   */
+  public final boolean supertype(final Type<?> sup, final Type<?> sub) {
+    return this.subtype(sub, sup);
+  }
+
+  // Must be called while holding this object's monitor.
+  private final void register(final Type<?> type) {
+    if (this.size == this.types.length) {
+      final int length = this.size << 1;
+      this.types = Arrays.copyOf(this.types, length);
+      this.up = Arrays.copyOf(this.up, length);
+      this.down = Arrays.copyOf(this.down, length);
+      this.downSizes = Arrays.copyOf(this.downSizes, length);
+      this.marks = Arrays.copyOf(this.marks, length);
+    }
+    this.types[this.size] = type;
+    this.down[this.size] = EMPTY_INT_ARRAY;
+    this.ids.put(type, this.size++);
+  }
+
+  // Must be called while holding this object's monitor.
+  private final void link(final int id, final List<? extends Type<?>> directSupertypes) {
+    int[] up = new int[directSupertypes.size()];
+    int n = 0;
+    for (final Type<?> directSupertype : directSupertypes) {
+      final int s = this.ids.get(directSupertype);
+      if (!contains(up, n, s)) {
+        up[n++] = s;
+        int[] down = this.down[s];
+        final int downSize = this.downSizes[s];
+        if (downSize == down.length) {
+          down = Arrays.copyOf(down, Math.max(4, downSize << 1));
+          this.down[s] = down;
+        }
+        down[downSize] = id;
+        this.downSizes[s] = downSize + 1;
+      }
+    }
+    this.up[id] = n == up.length ? up : Arrays.copyOf(up, n);
+  }
+
+  // Must be called while holding this object's monitor.
+  private final List<Type<?>> closure(final int id, final boolean upward) {
+    final int epoch = this.nextEpoch();
+    int head = 0;
+    int tail = 0;
+    this.queue[tail++] = id;
+    this.marks[id] = epoch;
+    while (head < tail) {
+      final int t = this.queue[head++];
+      final int[] edges = upward ? this.up[t] : this.down[t];
+      final int edgeCount = upward ? edges.length : this.downSizes[t];
+      for (int i = 0; i < edgeCount; i++) {
+        final int e = edges[i];
+        if (this.marks[e] != epoch) {
+          this.marks[e] = epoch;
+          if (tail == this.queue.length) {
+            this.queue = Arrays.copyOf(this.queue, tail << 1);
+          }
+          this.queue[tail++] = e;
+        }
+      }
+    }
+    return this.types(this.queue, tail);
+  }
+
+  // Must be called while holding this object's monitor.
+  private final int nextEpoch() {
+    if (++this.epoch == 0) {
+      // Wrapped around; stale marks could now collide.
+      Arrays.fill(this.marks, 0);
+      this.epoch = 1;
+    }
+    return this.epoch;
+  }
+
+  // Must be called while holding this object's monitor.
+  private final List<Type<?>> types(final int[] ids, final int length) {
+    if (length == 0) {
+      return List.of();
+    }
+    final List<Type<?>> list = new ArrayList<>(length);
+    for (int i = 0; i < length; i++) {
+      list.add(this.types[ids[i]]);
+    }
+    return Collections.unmodifiableList(list);
+  }
+
+
+  /*
+   * Static methods.
+   */
+
+
+  private static final boolean contains(final int[] ids, final int length, final int id) {
+    for (int i = 0; i < length; i++) {
+      if (ids[i] == id) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
@@ -0,0 +1,316 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.microbean.development.annotation.Experimental;
+
+/**
+ * A registry that assigns dense {@code int} identifiers to {@link
+ * Type}s and records each registered {@link Type}'s {@linkplain
+ * Type#supertypes() supertypes} as a compact bit set over those
+ * identifiers, so that subtype tests are reduced to a single bit
+ * probe.
+ *
+ * <p>{@link Type}s are identified by {@linkplain Type#equals(Object)
+ * equality}, not identity.  Identifiers are assigned in registration
+ * order starting from {@code 0} and are never reused.</p>
+ *
+ * <p>A {@link TypeRegistry} holds strong references to every {@link
+ * Type} it has registered.  It is intended to be scoped to a
+ * well-defined unit of work (such as a container's bean discovery
+ * phase) and discarded afterwards.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ *
+ * @see #subtype(Type, Type)
+ */
+@Experimental
+public final class TypeRegistry {
+
+
+  /*
+   * Static fields.
+   */
+
+
+  private static final long[] EMPTY_LONG_ARRAY = new long[0];
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  private final ConcurrentMap<Type<?>, Entry> entries;
+
+  // Guarded by this.
+  private Entry[] entriesById;
+
+  // Guarded by this.
+  private int size;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  /**
+   * Creates a new, empty {@link TypeRegistry}.
+   */
+  public TypeRegistry() {
+    super();
+    this.entries = new ConcurrentHashMap<>();
+    this.entriesById = new Entry[64];
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Returns the identifier of the supplied {@link Type}, registering
+   * it first if necessary.
+   *
+   * @param type the {@link Type}; must not be {@code null}
+   *
+   * @return the non-negative identifier of the supplied {@link Type}
+   *
+   * @exception NullPointerException if {@code type} is {@code null}
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final int id(final Type<?> type) {
+    return this.entry(type).id;
+  }
+
+  /**
+   * Returns the identifier of the supplied {@link Type} if it has
+   * been registered, or {@code -1} if it has not.
+   *
+   * @param type the {@link Type}; must not be {@code null}
+   *
+   * @return the identifier of the supplied {@link Type}, or {@code
+   * -1}
+   *
+   * @exception NullPointerException if {@code type} is {@code null}
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final int idIfRegistered(final Type<?> type) {
+    final Entry entry = this.entries.get(Objects.requireNonNull(type, "type"));
+    return entry == null ? -1 : entry.id;
+  }
+
+  /**
+   * Returns the {@link Type} registered under the supplied
+   * identifier.
+   *
+   * @param id the identifier
+   *
+   * @return the {@link Type} registered under the supplied
+   * identifier; never {@code null}
+   *
+   * @exception IndexOutOfBoundsException if no {@link Type} has been
+   * registered under the supplied identifier
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final Type<?> type(final int id) {
+    synchronized (this) {
+      Objects.checkIndex(id, this.size);
+      return this.entriesById[id].type;
+    }
+  }
+
+  /**
+   * Returns the number of {@link Type}s registered so far.
+   *
+   * @return the number of {@link Type}s registered so far
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final int size() {
+    synchronized (this) {
+      return this.size;
+    }
+  }
+
+  /**
+   * Returns {@code true} if and only if {@code sub} is a subtype of
+   * {@code sup}, i.e. if {@code sup} is {@linkplain
+   * Type#equals(Object) equal to} one of the {@linkplain
+   * Type#supertypes() supertypes} of {@code sub}.
+   *
+   * <p>The first time a given {@code sub} is supplied, it and all of
+   * its supertypes are registered, and its supertypes are recorded as
+   * a bit set.  Thereafter, this method performs two hash lookups and
+   * one bit probe.</p>
+   *
+   * @param sub the purported subtype; must not be {@code null}
+   *
+   * @param sup the purported supertype; must not be {@code null}
+   *
+   * @return {@code true} if and only if {@code sub} is a subtype of
+   * {@code sup}
+   *
+   * @exception NullPointerException if either argument is {@code
+   * null}
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see Type#subtypeOf(Type)
+   */
+  public final boolean subtype(final Type<?> sub, final Type<?> sup) {
+    final long[] supertypeIds = this.entry(sub).supertypeIds(this);
+    // sub's supertypes, including sup if it is one, were all
+    // registered before its supertype bit set was published.
+    final int supId = this.idIfRegistered(sup);
+    return supId >= 0 && get(supertypeIds, supId);
+  }
+
+  /**
+   * Returns {@code true} if and only if {@code sup} is a supertype of
+   * {@code sub}.
+   *
+   * <p>This method simply calls the {@link #subtype(Type, Type)}
+   * method with its arguments reversed.</p>
+   *
+   * @param sup the purported supertype; must not be {@code null}
+   *
+   * @param sub the purported subtype; must not be {@code null}
+   *
+   * @return {@code true} if and only if {@code sup} is a supertype of
+   * {@code sub}
+   *
+   * @exception NullPointerException if either argument is {@code
+   * null}
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #subtype(Type, Type)
+   *
+   * @see Type#supertypeOf(Type)
+   */
+  public final boolean supertype(final Type<?> sup, final Type<?> sub) {
+    return this.subtype(sub, sup);
+  }
+
+  private final Entry entry(final Type<?> type) {
+    Entry entry = this.entries.get(Objects.requireNonNull(type, "type"));
+    if (entry == null) {
+      synchronized (this) {
+        entry = this.entries.get(type);
+        if (entry == null) {
+          if (this.size == this.entriesById.length) {
+            this.entriesById = Arrays.copyOf(this.entriesById, this.size << 1);
+          }
+          entry = new Entry(type, this.size);
+          this.entriesById[this.size++] = entry;
+          this.entries.put(type, entry);
+        }
+      }
+    }
+    return entry;
+  }
+
+
+  /*
+   * Static methods.
+   */
+
+
+  private static final boolean get(final long[] bits, final int index) {
+    final int word = index >>> 6;
+    return word < bits.length && (bits[word] & (1L << index)) != 0L;
+  }
+
+
+  /*
+   * Inner and nested classes.
+   */
+
+
+  private static final class Entry {
+
+    private final Type<?> type;
+
+    private final int id;
+
+    private volatile long[] supertypeIds;
+
+    private Entry(final Type<?> type, final int id) {
+      super();
+      this.type = type;
+      this.id = id;
+    }
+
+    private final long[] supertypeIds(final TypeRegistry registry) {
+      long[] supertypeIds = this.supertypeIds; // volatile read
+      if (supertypeIds == null) {
+        final List<? extends Type<?>> supertypes = this.type.supertypes();
+        if (supertypes.isEmpty()) {
+          supertypeIds = EMPTY_LONG_ARRAY;
+        } else {
+          final int[] ids = new int[supertypes.size()];
+          int max = 0;
+          for (int i = 0; i < ids.length; i++) {
+            ids[i] = registry.id(supertypes.get(i));
+            if (ids[i] > max) {
+              max = ids[i];
+            }
+          }
+          supertypeIds = new long[(max >>> 6) + 1];
+          for (final int id : ids) {
+            supertypeIds[id >>> 6] |= 1L << id;
+          }
+        }
+        // Racing threads compute identical bit sets.
+        this.supertypeIds = supertypeIds; // volatile write
+      }
+      return supertypeIds;
+    }
+
+  }
+
+}
@@ -0,0 +1,475 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.microbean.development.annotation.Experimental;
+
+/**
+ * A resolver of {@link TypeVariable}s as seen from a particular
+ * <em>context</em> type: a {@link Class} or a {@link
+ * ParameterizedType}.
+ *
+ * <p>A {@link TypeResolver} knows, for its context type and every one
+ * of its generic ancestors, the type each of those ancestors' type
+ * parameters is bound to.  For example, given:</p>
+ *
+ * <blockquote><pre>class Foo&lt;T&gt; { T t; }
+ *class Bar extends Foo&lt;String&gt; {}</pre></blockquote>
+ *
+ * <p>{@code TypeResolver.of(Bar.class).resolve(Foo.class.getDeclaredField("t"))}
+ * returns {@code String.class}.</p>
+ *
+ * <p>{@link TypeResolver}s are cached per context type, and each
+ * resolver reuses the cached resolvers of its context type's direct
+ * supertypes, so repeated resolution in the same context does not
+ * recompute any bindings.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson"
+ * target="_parent">Laird Nelson</a>
+ *
+ * @see #of(Type)
+ *
+ * @see #resolve(Type)
+ */
+@Experimental
+public final class TypeResolver {
+
+
+  /*
+   * Static fields.
+   */
+
+
+  private static final ClassValue<TypeResolver> CLASS_RESOLVERS = new ClassValue<>() {
+      @Override // ClassValue<TypeResolver>
+      protected final TypeResolver computeValue(final Class<?> c) {
+        return new TypeResolver(c);
+      }
+    };
+
+  // Resolvers for ParameterizedType contexts.  Bounded, since its keys
+  // may reference Classes strongly.
+  private static final BoundedCache<Key, TypeResolver> RESOLVERS =
+    new BoundedCache<>(Integer.getInteger("org.microbean.type.TypeResolver.cacheSize", 4096));
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  private final Type context;
+
+  private final Map<TypeVariable<?>, Type> bindings;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  private TypeResolver(final Type context) {
+    super();
+    this.context = context;
+    final Map<TypeVariable<?>, Type> bindings = new HashMap<>();
+    final Class<?> c;
+    if (context instanceof Class<?> k) {
+      // A Class's own type parameters are unbound.
+      c = k;
+    } else if (context instanceof ParameterizedType p) {
+      c = JavaTypes.erase(p.getRawType());
+      final TypeVariable<?>[] typeParameters = c.getTypeParameters();
+      final Type[] typeArguments = p.getActualTypeArguments();
+      if (typeParameters.length != typeArguments.length) {
+        throw new IllegalArgumentException("context: " + JavaTypes.toString(context));
+      }
+      for (int i = 0; i < typeParameters.length; i++) {
+        bindings.put(typeParameters[i], typeArguments[i]);
+      }
+      if (p.getOwnerType() instanceof ParameterizedType owner) {
+        // An inner class can see its enclosing class's type
+        // parameters.
+        putAllAbsent(bindings, of(owner).bindings);
+      }
+    } else {
+      throw new IllegalArgumentException("context: " + JavaTypes.toString(context));
+    }
+    // The substitution of this context's bindings applied to each
+    // direct supertype of c yields a context whose own resolver
+    // already knows every ancestor binding above it.
+    final Type genericSuperclass = JavaTypes.genericSuperclass(c);
+    if (genericSuperclass != null) {
+      putAllAbsent(bindings, of(substitute(genericSuperclass, bindings)).bindings);
+    }
+    for (final Type genericInterface : JavaTypes.genericInterfaces(c)) {
+      putAllAbsent(bindings, of(substitute(genericInterface, bindings)).bindings);
+    }
+    this.bindings = bindings.isEmpty() ? Map.of() : Collections.unmodifiableMap(bindings);
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Returns the context type of this {@link TypeResolver}.
+   *
+   * @return the context type; never {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final Type context() {
+    return this.context;
+  }
+
+  /**
+   * Returns an unmodifiable {@link Map} of the type parameters of
+   * this {@link TypeResolver}'s context type and its generic
+   * ancestors to the types they are bound to, as seen from the
+   * context type.
+   *
+   * <p>The type parameters of a {@link Class} context are not
+   * themselves bound, so do not appear as keys.</p>
+   *
+   * @return an unmodifiable {@link Map}; never {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final Map<TypeVariable<?>, Type> bindings() {
+    return this.bindings;
+  }
+
+  /**
+   * Returns the type the supplied {@link TypeVariable} is bound to as
+   * seen from this {@link TypeResolver}'s context type, or {@code
+   * null} if it is not bound.
+   *
+   * @param typeVariable the {@link TypeVariable}; must not be {@code
+   * null}
+   *
+   * @return the bound type, or {@code null}
+   *
+   * @exception NullPointerException if {@code typeVariable} is {@code
+   * null}
+   *
+   * @nullability This method may return {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final Type binding(final TypeVariable<?> typeVariable) {
+    return binding(typeVariable, this.bindings);
+  }
+
+  /**
+   * Returns the result of replacing every bound {@link TypeVariable}
+   * in the supplied {@link Type} with the type it is bound to as seen
+   * from this {@link TypeResolver}'s context type.
+   *
+   * <p>Unbound {@link TypeVariable}s are left as they are.  If
+   * nothing is replaced, the supplied {@link Type} itself is
+   * returned.  Replacement {@link ParameterizedType}s, {@link
+   * GenericArrayType}s and {@link WildcardType}s are {@link
+   * DefaultParameterizedType}s, {@link DefaultGenericArrayType}s and
+   * {@link AbstractWildcardType}s.</p>
+   *
+   * @param type the {@link Type} to resolve, such as the {@linkplain
+   * Field#getGenericType() generic type of a field} or the
+   * {@linkplain Method#getGenericReturnType() generic return type of
+   * a method} declared by an ancestor of the context type; must not
+   * be {@code null}
+   *
+   * @return the resolved {@link Type}; never {@code null}
+   *
+   * @exception NullPointerException if {@code type} is {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public final Type resolve(final Type type) {
+    return this.bindings.isEmpty() ? Objects.requireNonNull(type, "type") : substitute(type, this.bindings);
+  }
+
+  /**
+   * Returns the {@linkplain #resolve(Type) resolved} {@linkplain
+   * Field#getGenericType() generic type} of the supplied {@link
+   * Field}.
+   *
+   * @param field the {@link Field}; must not be {@code null}
+   *
+   * @return the resolved {@link Type}; never {@code null}
+   *
+   * @exception NullPointerException if {@code field} is {@code null}
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #resolve(Type)
+   */
+  public final Type resolve(final Field field) {
+    return this.resolve(field.getGenericType());
+  }
+
+  @Override // Object
+  public final String toString() {
+    return JavaTypes.toString(this.context) + " " + this.bindings;
+  }
+
+
+  /*
+   * Static methods.
+   */
+
+
+  /**
+   * Returns a {@link TypeResolver} for the supplied context type.
+   *
+   * @param context a {@link Class} or a {@link ParameterizedType};
+   * must not be {@code null}
+   *
+   * @return a {@link TypeResolver}; never {@code null}
+   *
+   * @exception NullPointerException if {@code context} is {@code null}
+   *
+   * @exception IllegalArgumentException if {@code context} is neither
+   * a {@link Class} nor a {@link ParameterizedType}, or is a {@link
+   * ParameterizedType} whose number of type arguments differs from
+   * its raw type's number of type parameters
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.  It
+   * usually returns the same {@link TypeResolver} for equal context
+   * types.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   */
+  public static final TypeResolver of(final Type context) {
+    if (Objects.requireNonNull(context, "context") instanceof Class<?> c) {
+      return CLASS_RESOLVERS.get(c);
+    }
+    return RESOLVERS.computeIfAbsent(new Key(context), k -> new TypeResolver(k.type));
+  }
+
+  /**
+   * Returns the result of {@linkplain #resolve(Type) resolving} the
+   * supplied {@link Type} in the context of the supplied context
+   * type.
+   *
+   * @param type the {@link Type} to resolve; must not be {@code null}
+   *
+   * @param inContextOf a {@link Class} or a {@link ParameterizedType};
+   * must not be {@code null}
+   *
+   * @return the resolved {@link Type}; never {@code null}
+   *
+   * @exception NullPointerException if either argument is {@code
+   * null}
+   *
+   * @exception IllegalArgumentException if {@code inContextOf} is not
+   * a suitable context type
+   *
+   * @nullability This method never returns {@code null}.
+   *
+   * @idempotency This method is idempotent and deterministic.
+   *
+   * @threadsafety This method is safe for concurrent use by multiple
+   * threads.
+   *
+   * @see #of(Type)
+   *
+   * @see #resolve(Type)
+   */
+  public static final Type resolve(final Type type, final Type inContextOf) {
+    return of(inContextOf).resolve(type);
+  }
+
+  static final BoundedCache<?, ?> cache() {
+    return RESOLVERS;
+  }
+
+  private static final void putAllAbsent(final Map<TypeVariable<?>, Type> bindings,
+                                         final Map<TypeVariable<?>, Type> ancestorBindings) {
+    for (final Map.Entry<TypeVariable<?>, Type> entry : ancestorBindings.entrySet()) {
+      bindings.putIfAbsent(entry.getKey(), entry.getValue());
+    }
+  }
+
+  private static final Type binding(final TypeVariable<?> tv, final Map<TypeVariable<?>, Type> bindings) {
+    final Type binding = bindings.get(Objects.requireNonNull(tv, "typeVariable"));
+    if (binding == null && !bindings.isEmpty() && tv.getGenericDeclaration() instanceof Class<?> c) {
+      // The TypeVariable may be of a different implementation (e.g. a
+      // DefaultTypeVariable) than the keys, which come from
+      // Class#getTypeParameters().
+      for (final TypeVariable<?> typeParameter : c.getTypeParameters()) {
+        if (typeParameter.getName().equals(tv.getName())) {
+          return bindings.get(typeParameter);
+        }
+      }
+    }
+    return binding;
+  }
+
+  private static final Type substitute(final Type type, final Map<TypeVariable<?>, Type> bindings) {
+    if (type instanceof Class<?>) {
+      return type;
+    } else if (type instanceof ParameterizedType p) {
+      final Type ownerType = p.getOwnerType();
+      final Type resolvedOwnerType = ownerType == null ? null : substitute(ownerType, bindings);
+      boolean changed = resolvedOwnerType != ownerType;
+      final Type[] typeArguments = p.getActualTypeArguments(); // cloned
+      for (int i = 0; i < typeArguments.length; i++) {
+        final Type typeArgument = typeArguments[i];
+        final Type resolvedTypeArgument = substitute(typeArgument, bindings);
+        if (resolvedTypeArgument != typeArgument) {
+          typeArguments[i] = resolvedTypeArgument;
+          changed = true;
+        }
+      }
+      return changed ? new DefaultParameterizedType(resolvedOwnerType, p.getRawType(), typeArguments) : p;
+    } else if (type instanceof GenericArrayType g) {
+      final Type componentType = g.getGenericComponentType();
+      final Type resolvedComponentType = substitute(componentType, bindings);
+      if (resolvedComponentType == componentType) {
+        return g;
+      }
+      // Arrays cannot have wildcard component types.
+      final Type arrayComponentType = upperBound(resolvedComponentType);
+      if (arrayComponentType instanceof Class<?> c) {
+        return c.arrayType();
+      }
+      return new DefaultGenericArrayType(arrayComponentType);
+    } else if (type instanceof TypeVariable<?> tv) {
+      final Type binding = binding(tv, bindings);
+      return binding == null ? tv : binding;
+    } else if (type instanceof WildcardType w) {
+      final Type[] lowerBounds = w.getLowerBounds();
+      if (lowerBounds.length > 0) {
+        final Type resolvedLowerBound = substitute(lowerBounds[0], bindings);
+        if (resolvedLowerBound == lowerBounds[0]) {
+          return w;
+        } else if (resolvedLowerBound instanceof WildcardType rw) {
+          // ? super (? super X) is ? super X; ? super (? extends X)
+          // is ?.
+          return rw.getLowerBounds().length > 0 ? rw : UnboundedWildcardType.INSTANCE;
+        }
+        return new LowerBoundedWildcardType(resolvedLowerBound);
+      }
+      final Type[] upperBounds = w.getUpperBounds(); // cloned
+      boolean changed = false;
+      for (int i = 0; i < upperBounds.length; i++) {
+        final Type upperBound = upperBounds[i];
+        // ? extends (? extends X) is ? extends X; ? extends (? super
+        // X) is ? extends Object.
+        final Type resolvedUpperBound = upperBound(substitute(upperBound, bindings));
+        if (resolvedUpperBound != upperBound) {
+          upperBounds[i] = resolvedUpperBound;
+          changed = true;
+        }
+      }
+      if (!changed) {
+        return w;
+      } else if (upperBounds.length == 1 && upperBounds[0] == Object.class) {
+        return UnboundedWildcardType.INSTANCE;
+      }
+      return new UpperBoundedWildcardType(upperBounds);
+    } else {
+      throw new IllegalArgumentException("type: " + JavaTypes.toString(type));
+    }
+  }
+
+  private static final Type upperBound(final Type type) {
+    if (type instanceof WildcardType w) {
+      final Type[] upperBounds = w.getUpperBounds();
+      return upperBounds.length > 0 ? upperBounds[0] : Object.class;
+    }
+    return type;
+  }
+
+
+  /*
+   * Inner and nested classes.
+   */
+
+
+  private static final class Key {
+
+    private final Type type;
+
+    private final int hashCode;
+
+    private Key(final Type type) {
+      super();
+      this.type = type;
+      this.hashCode = JavaTypes.hashCode(type);
+    }
+
+    @Override // Object
+    public final int hashCode() {
+      return this.hashCode;
+    }
+
+    @Override // Object
+    public final boolean equals(final Object other) {
+      if (other == this) {
+        return true;
+      } else if (other != null && other.getClass() == this.getClass()) {
+        return JavaTypes.equals(this.type, ((Key)other).type);
+      } else {
+        return false;
+      }
+    }
+
+  }
+
+}
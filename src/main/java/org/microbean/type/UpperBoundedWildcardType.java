@@ -96,7 +96,7 @@ public final class UpperBoundedWildcardType extends AbstractWildcardType impleme
 
   @Override // Constable
   public final Optional<? extends ConstantDesc> describeConstable() {
-    final Type[] upperBounds = this.getUpperBounds();
+    final Type[] upperBounds = this.upperBounds(); // not cloned; do not modify
     // Upper bounded (extends).
     final int bsmInvokeArgumentsLength = upperBounds.length + 1;
     final ConstantDesc[] bsmInvokeArguments = new ConstantDesc[bsmInvokeArgumentsLength];
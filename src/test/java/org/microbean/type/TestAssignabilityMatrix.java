@@ -0,0 +1,83 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.microbean.type.JavaType.Token;
+import org.microbean.type.Type.CdiSemantics;
+import org.microbean.type.Type.CovariantSemantics;
+import org.microbean.type.Type.Semantics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestAssignabilityMatrix {
+
+  private TestAssignabilityMatrix() {
+    super();
+  }
+
+  @Test
+  final void testMatrixAgreesWithAssignable() {
+    final List<JavaType> types = new ArrayList<>();
+    types.add(JavaType.of(Object.class));
+    types.add(JavaType.of(Number.class));
+    types.add(JavaType.of(Integer.class));
+    types.add(JavaType.of(int.class));
+    types.add(JavaType.of(String.class));
+    types.add(JavaType.of(Serializable.class));
+    types.add(JavaType.of(List.class));
+    types.add(JavaType.of(Number[].class));
+    types.add(JavaType.of(Integer[].class));
+    types.add(JavaType.of(new Token<Comparable<Integer>>() {}.type()));
+    types.add(JavaType.of(new Token<List<String>>() {}.type()));
+    types.add(JavaType.of(new Token<List<? extends CharSequence>>() {}.type()));
+    types.add(JavaType.of(new Token<Map<String, Integer>>() {}.type()));
+    for (final Semantics semantics : List.of(CovariantSemantics.INSTANCE, CdiSemantics.INSTANCE)) {
+      final AssignabilityMatrix matrix = semantics.assignabilityMatrix(types, types, false);
+      assertEquals(types.size(), matrix.rows());
+      assertEquals(types.size(), matrix.columns());
+      for (int r = 0; r < types.size(); r++) {
+        for (int c = 0; c < types.size(); c++) {
+          assertEquals(semantics.assignable(types.get(r), types.get(c)), matrix.assignable(r, c), r + ", " + c);
+        }
+      }
+      assertEquals(matrix, semantics.assignabilityMatrix(types, types, true));
+    }
+  }
+
+  @Test
+  final void testRows() {
+    final AssignabilityMatrix matrix =
+      CovariantSemantics.INSTANCE.assignabilityMatrix(List.of(JavaType.of(Number.class), JavaType.of(String.class)),
+                                                      List.of(JavaType.of(Integer.class), JavaType.of(Long.class)),
+                                                      false);
+    assertTrue(matrix.anyAssignable(0));
+    assertFalse(matrix.anyAssignable(1));
+    assertEquals(2, matrix.row(0).cardinality());
+    assertTrue(matrix.row(1).isEmpty());
+  }
+
+}
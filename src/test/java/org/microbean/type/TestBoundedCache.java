@@ -0,0 +1,54 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+final class TestBoundedCache {
+
+  private TestBoundedCache() {
+    super();
+  }
+
+  @Test
+  final void testComputeIfAbsent() {
+    final BoundedCache<String, String> cache = new BoundedCache<>(10);
+    final String value = cache.computeIfAbsent("a", String::toUpperCase);
+    assertEquals("A", value);
+    assertSame(value, cache.computeIfAbsent("a", k -> "B"));
+    assertEquals(1L, cache.misses());
+    assertEquals(1L, cache.hits());
+  }
+
+  @Test
+  final void testFirstInFirstOutEviction() {
+    final BoundedCache<Integer, Integer> cache = new BoundedCache<>(2);
+    cache.put(1, 1);
+    cache.put(2, 2);
+    cache.put(3, 3);
+    assertEquals(2, cache.size());
+    assertEquals(1L, cache.evictions());
+    assertNull(cache.get(1));
+    assertEquals(Integer.valueOf(2), cache.get(2));
+    assertEquals(Integer.valueOf(3), cache.get(3));
+  }
+
+}
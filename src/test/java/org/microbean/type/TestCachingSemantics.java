@@ -0,0 +1,91 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.microbean.type.JavaType.Token;
+import org.microbean.type.Type.CachingSemantics;
+import org.microbean.type.Type.CachingSemantics.EvictionPolicy;
+import org.microbean.type.Type.CdiSemantics;
+import org.microbean.type.Type.CovariantSemantics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestCachingSemantics {
+
+  private TestCachingSemantics() {
+    super();
+  }
+
+  @Test
+  final void testHitsAndMisses() {
+    final CachingSemantics semantics = new CachingSemantics(CovariantSemantics.INSTANCE);
+    final java.lang.reflect.Type listString = new Token<List<String>>() {}.type();
+    assertTrue(semantics.assignable(Object.class, listString));
+    assertEquals(0L, semantics.hits());
+    assertEquals(1L, semantics.misses());
+    assertTrue(semantics.assignable(Object.class, new DefaultParameterizedType(null, List.class, String.class)));
+    assertEquals(1L, semantics.hits());
+    assertEquals(1L, semantics.misses());
+    assertFalse(semantics.assignable(String.class, Object.class));
+    assertFalse(semantics.assignable(String.class, Object.class));
+    assertEquals(2L, semantics.hits());
+    assertEquals(2L, semantics.misses());
+  }
+
+  @Test
+  final void testEviction() {
+    final CachingSemantics semantics = new CachingSemantics(CovariantSemantics.INSTANCE, 1, EvictionPolicy.FIRST_IN_FIRST_OUT);
+    assertTrue(semantics.assignable(Number.class, Integer.class));
+    assertTrue(semantics.assignable(Number.class, Long.class));
+    assertEquals(1, semantics.size());
+    assertEquals(1L, semantics.evictions());
+  }
+
+  @Test
+  final void testDecoratedCdiSemanticsStillBoxes() {
+    final CachingSemantics semantics = new CachingSemantics(CdiSemantics.INSTANCE);
+    assertTrue(semantics.assignable(Integer.class, int.class));
+    assertTrue(semantics.assignable(Integer.class, int.class));
+    assertEquals(1L, semantics.hits());
+  }
+
+  @Test
+  final void testFBoundedMethodTypeVariable() throws ReflectiveOperationException {
+    // T extends Comparable<T>, declared by a generic method.
+    final JavaType t = JavaType.of(TestCachingSemantics.class.getDeclaredMethod("fBounded", Comparable.class).getTypeParameters()[0]);
+    final JavaType object = JavaType.of(Object.class);
+    final CovariantSemantics delegate = new CovariantSemantics();
+    final CachingSemantics semantics = new CachingSemantics(delegate);
+    assertTrue(delegate.assignable(object, t));
+    assertTrue(semantics.assignable(object, t));
+    assertTrue(semantics.assignable(object, t));
+    assertEquals(1L, semantics.hits());
+    assertFalse(semantics.assignable(t, object));
+    assertEquals(delegate.assignable(JavaType.of(Comparable.class), t), semantics.assignable(JavaType.of(Comparable.class), t));
+  }
+
+  private static final <T extends Comparable<T>> void fBounded(final T t) {
+
+  }
+
+}
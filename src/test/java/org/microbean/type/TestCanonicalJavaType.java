@@ -0,0 +1,72 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestCanonicalJavaType {
+
+  private TestCanonicalJavaType() {
+    super();
+  }
+
+  @Test
+  final void testCanonicalIsOptIn() {
+    final JavaType t1 = JavaType.of(String.class);
+    final JavaType t2 = JavaType.of(String.class);
+    assertNotSame(t1, t2);
+    assertFalse(t1.isCanonical());
+    final JavaType c = t1.canonical();
+    assertTrue(c.isCanonical());
+    assertSame(c, t2.canonical());
+    assertSame(c, JavaType.canonical(false, String.class));
+    assertEquals(t1, c);
+  }
+
+  @Test
+  final void testCanonicalParameterizedType() {
+    final java.lang.reflect.Type mapType = new JavaType.Token<Map<String, Integer>>() {}.type();
+    final JavaType c1 = JavaType.canonical(false, mapType);
+    final JavaType c2 = JavaType.canonical(false, new DefaultParameterizedType(null, Map.class, String.class, Integer.class));
+    assertSame(c1, c2);
+    final List<? extends JavaType> typeArguments = c1.typeArguments();
+    assertEquals(2, typeArguments.size());
+    assertSame(JavaType.canonical(false, String.class), typeArguments.get(0));
+    assertSame(JavaType.canonical(false, Integer.class), typeArguments.get(1));
+    assertTrue(typeArguments.get(1).isCanonical());
+  }
+
+  @Test
+  final void testCanonicalBoxing() {
+    final JavaType unboxed = JavaType.canonical(false, int.class);
+    final JavaType boxed = JavaType.canonical(true, int.class);
+    assertNotSame(unboxed, boxed);
+    assertSame(boxed, JavaType.canonical(true, Integer.class));
+    assertSame(boxed, unboxed.withBox(true));
+    assertEquals(Integer.class, boxed.object());
+  }
+
+}
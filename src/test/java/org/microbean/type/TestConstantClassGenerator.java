@@ -0,0 +1,66 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.lang.constant.Constable;
+
+import java.lang.invoke.MethodHandles;
+
+import java.lang.reflect.Method;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestConstantClassGenerator {
+
+  private TestConstantClassGenerator() {
+    super();
+  }
+
+  @Test
+  final void testGenerate() throws ReflectiveOperationException {
+    final DefaultParameterizedType listOfString = new DefaultParameterizedType(null, List.class, String.class);
+    final Map<String, Constable> constants = new LinkedHashMap<>();
+    constants.put("integer", Integer.class);
+    constants.put("primitiveInt", int.class);
+    constants.put("answer", Integer.valueOf(42));
+    constants.put("big", Long.valueOf(Long.MAX_VALUE));
+    constants.put("string", "hello");
+    constants.put("listOfString", listOfString);
+    constants.put("javaType", JavaType.of(listOfString));
+    final byte[] bytes = ConstantClassGenerator.generate("org.microbean.type.GeneratedTypeConstants", constants);
+    final Class<?> c = MethodHandles.lookup().defineClass(bytes);
+    assertSame(Integer.class, c.getMethod("integer").invoke(null));
+    assertSame(int.class, c.getMethod("primitiveInt").invoke(null));
+    assertEquals(Integer.valueOf(42), c.getMethod("answer").invoke(null));
+    assertEquals(Long.valueOf(Long.MAX_VALUE), c.getMethod("big").invoke(null));
+    assertEquals("hello", c.getMethod("string").invoke(null));
+    final Method m = c.getMethod("listOfString");
+    assertTrue(JavaTypes.equals(listOfString, (java.lang.reflect.Type)m.invoke(null)));
+    // ldc resolves a dynamic constant exactly once.
+    assertSame(m.invoke(null), m.invoke(null));
+    assertEquals(JavaType.of(listOfString), c.getMethod("javaType").invoke(null));
+  }
+
+}
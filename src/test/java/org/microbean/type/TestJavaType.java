@@ -0,0 +1,147 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.microbean.type.JavaType.Token;
+import org.microbean.type.Type.Kind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestJavaType {
+
+  private TestJavaType() {
+    super();
+  }
+
+  @Test
+  final void testDerivedViewsAreReused() {
+    final JavaType t = JavaType.of(new Token<Map<String, List<? extends Number>>>() {}.type());
+    assertSame(t.typeArguments(), t.typeArguments());
+    assertSame(t.type(), t.type());
+    assertEquals(Map.class, t.type().object());
+    assertSame(t.type().typeParameters(), t.type().typeParameters());
+    final JavaType wildcard = t.typeArguments().get(1).typeArguments().get(0);
+    assertSame(wildcard.upperBounds(), wildcard.upperBounds());
+    assertSame(wildcard.lowerBounds(), wildcard.lowerBounds());
+    assertEquals(Number.class, wildcard.upperBounds().get(0).object());
+  }
+
+  @Test
+  final void testAbsentDerivedViewsAreNull() {
+    final JavaType t = JavaType.of(String.class);
+    assertNull(t.componentType());
+    assertNull(t.componentType());
+    assertNull(t.owner());
+    assertNull(t.owner());
+    assertSame(t, t.type());
+    final JavaType array = JavaType.of(String[].class);
+    assertSame(array.componentType(), array.componentType());
+    assertEquals(String.class, array.componentType().object());
+  }
+
+  @Test
+  final <T> void testKind() {
+    assertSame(Kind.CLASS, JavaType.of(String.class).kind());
+    assertSame(Kind.CLASS, JavaType.of(int.class).kind());
+    assertSame(Kind.CLASS, JavaType.of(String[].class).kind());
+    final JavaType t = JavaType.of(new Token<Map<? super Integer, List<? extends T>[]>>() {}.type());
+    assertSame(Kind.PARAMETERIZED_TYPE, t.kind());
+    assertSame(Kind.LOWER_BOUNDED_WILDCARD, t.typeArguments().get(0).kind());
+    final JavaType genericArrayType = t.typeArguments().get(1);
+    assertSame(Kind.GENERIC_ARRAY_TYPE, genericArrayType.kind());
+    final JavaType upperBoundedWildcard = genericArrayType.componentType().typeArguments().get(0);
+    assertSame(Kind.UPPER_BOUNDED_WILDCARD, upperBoundedWildcard.kind());
+    assertSame(Kind.TYPE_VARIABLE, upperBoundedWildcard.upperBounds().get(0).kind());
+    assertSame(Kind.CUSTOM_SUPERTYPED, JavaType.ofExactly(Number.class).kind());
+  }
+
+  @Test
+  final void testSupertypeOfAndSubtypeOf() {
+    final JavaType integer = JavaType.of(Integer.class);
+    for (final Type<java.lang.reflect.Type> supertype : integer.supertypes()) {
+      assertTrue(supertype.supertypeOf(integer));
+      assertTrue(integer.subtypeOf(supertype));
+    }
+    final JavaType comparableInteger = JavaType.of(new Token<Comparable<Integer>>() {}.type());
+    assertTrue(comparableInteger.supertypeOf(integer));
+    assertFalse(JavaType.of(new Token<Comparable<String>>() {}.type()).supertypeOf(integer));
+    assertFalse(integer.supertypeOf(JavaType.of(Number.class)));
+    assertFalse(JavaType.of(Number.class).subtypeOf(integer));
+  }
+
+  @Test
+  final void testFBoundedTypeVariableSupertypeOfAndSubtypeOf() throws ReflectiveOperationException {
+    // E extends Enum<E>
+    final JavaType e = JavaType.of(Enum.class.getTypeParameters()[0]);
+    final JavaType object = JavaType.of(Object.class);
+    assertTrue(e.subtypeOf(object));
+    assertTrue(object.supertypeOf(e));
+    assertEquals(e.hashCode(), JavaType.of(Enum.class.getTypeParameters()[0]).hashCode());
+    // T extends Comparable<T>
+    final JavaType t = JavaType.of(TestJavaType.class.getDeclaredMethod("fBounded", Comparable.class).getTypeParameters()[0]);
+    assertTrue(t.subtypeOf(object));
+    assertTrue(object.supertypeOf(t));
+    assertTrue(t.subtypeOf(JavaType.of(Comparable.class)));
+    assertFalse(t.subtypeOf(JavaType.of(Number.class)));
+  }
+
+  private static final <T extends Comparable<T>> void fBounded(final T t) {
+
+  }
+
+  @Test
+  final void testLazySupertypes() {
+    final Type<java.lang.reflect.Type> listOfInteger = JavaType.of(new Token<List<Integer>>() {}.type());
+    final List<? extends Type<java.lang.reflect.Type>> supertypes = JavaType.of(new Token<List<Integer>>() {}.type()).supertypes();
+    assertEquals(supertypes, listOfInteger.supertypeStream().toList());
+    final JavaType comparable = JavaType.of(new Token<Comparable<Integer>>() {}.type());
+    assertEquals(comparable, JavaType.of(Integer.class).supertypeStream().filter(comparable::equals).findFirst().orElse(null));
+    final int[] visited = new int[1];
+    assertFalse(listOfInteger.visitSupertypes(t -> ++visited[0] < 2));
+    assertEquals(2, visited[0]);
+    visited[0] = 0;
+    assertTrue(listOfInteger.visitSupertypes(t -> ++visited[0] > 0));
+    assertEquals(supertypes.size(), visited[0]);
+    // Once computed, the cached supertypes are streamed instead.
+    listOfInteger.supertypes();
+    assertEquals(supertypes, listOfInteger.supertypeStream().toList());
+  }
+
+  @Test
+  final void testMostSpecialized() {
+    final JavaType integer = JavaType.of(Integer.class);
+    assertSame(integer, integer.mostSpecialized(t -> true));
+    assertEquals(JavaType.of(Number.class), integer.mostSpecialized(t -> !JavaTypes.erase(t.object()).isInterface() && t != integer));
+    assertNull(integer.mostSpecialized(t -> false));
+    final List<Type<java.lang.reflect.Type>> interfaces =
+      integer.mostSpecializedSupertypes(t -> JavaTypes.erase(t.object()).isInterface());
+    assertEquals(4, interfaces.size());
+    assertTrue(interfaces.contains(JavaType.of(new Token<Comparable<Integer>>() {}.type())));
+    assertTrue(interfaces.contains(JavaType.of(java.io.Serializable.class))); // via Number
+    assertFalse(interfaces.contains(JavaType.of(Comparable.class)));
+  }
+
+}
@@ -22,6 +22,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -90,4 +91,47 @@ final class TestJavaTypeSet {
   }
 
 
+  @Test
+  final void testContainsAndDeduplication() {
+    final java.lang.reflect.Type comparableInteger = new DefaultParameterizedType(null, Comparable.class, Integer.class);
+    final JavaTypeSet jts =
+      JavaTypeSet.of(List.of(Integer.class,
+                             comparableInteger,
+                             JavaType.of(Number.class),
+                             new DefaultParameterizedType(null, Comparable.class, Integer.class),
+                             Integer.class));
+    assertEquals(3, jts.size());
+    assertTrue(jts.contains(Integer.class));
+    assertTrue(jts.contains(Number.class));
+    assertTrue(jts.contains(new DefaultParameterizedType(null, Comparable.class, Integer.class)));
+    assertTrue(jts.contains(JavaType.of(comparableInteger)));
+    assertFalse(jts.contains(Comparable.class));
+    assertFalse(jts.contains(new DefaultParameterizedType(null, Comparable.class, String.class)));
+    assertFalse(jts.contains("Integer"));
+    final JavaTypeSet interfaceTypes = jts.interfaceTypes();
+    assertEquals(1, interfaceTypes.size());
+    assertTrue(interfaceTypes.contains(comparableInteger));
+    final JavaTypeSet nonInterfaceTypes = jts.nonInterfaceTypes();
+    assertEquals(2, nonInterfaceTypes.size());
+    assertTrue(nonInterfaceTypes.contains(Integer.class));
+    assertTrue(nonInterfaceTypes.contains(Number.class));
+    assertEquals(jts.size(), jts.javaTypeSet().size());
+  }
+
+  @Test
+  final void testMostSpecializedTypes() {
+    final JavaTypeSet jts = JavaTypeSet.ofSupertypes(Integer.class);
+    final JavaTypeSet mostSpecialized = jts.mostSpecializedTypes(t -> true);
+    assertEquals(1, mostSpecialized.size());
+    assertTrue(mostSpecialized.contains(Integer.class));
+    final JavaTypeSet mostSpecializedInterfaces = jts.mostSpecializedTypes(t -> JavaTypes.erase(t).isInterface());
+    assertTrue(mostSpecializedInterfaces.contains(new DefaultParameterizedType(null, Comparable.class, Integer.class)));
+    assertTrue(mostSpecializedInterfaces.contains(java.lang.constant.Constable.class));
+    assertTrue(mostSpecializedInterfaces.contains(java.lang.constant.ConstantDesc.class));
+    assertTrue(mostSpecializedInterfaces.contains(java.io.Serializable.class)); // via Number
+    assertEquals(4, mostSpecializedInterfaces.size());
+    final JavaTypeSet unrelated = JavaTypeSet.of(List.of(Number.class, String.class, Integer.class));
+    assertEquals(List.of(String.class, Integer.class), List.copyOf(unrelated.mostSpecializedTypes(t -> true)));
+  }
+
 }
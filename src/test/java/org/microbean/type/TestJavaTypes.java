@@ -28,11 +28,17 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -154,6 +160,12 @@ final class TestJavaTypes {
     assertSame(Object.class, directSupertypes.iterator().next());
   }
 
+  @Test
+  final void testDirectSupertypesOfClassAreReused() {
+    assertSame(JavaTypes.directSupertypes(Integer.class), JavaTypes.directSupertypes(Integer.class));
+    assertSame(JavaTypes.directSupertypes(Integer[].class), JavaTypes.directSupertypes(Integer[].class));
+  }
+
   @Test
   final void testDirectSupertypesOfArrayListString() {
     final Collection<? extends Type> directSupertypes =
@@ -166,6 +178,32 @@ final class TestJavaTypes {
     System.out.println(JavaTypes.supertypes(Integer.class));
   }
 
+  @Test
+  final void testSupertypesAreReused() {
+    assertSame(JavaTypes.supertypes(Integer.class), JavaTypes.supertypes(Integer.class));
+    final Type listString = new DefaultParameterizedType(null, java.util.List.class, String.class);
+    assertSame(JavaTypes.supertypes(listString),
+               JavaTypes.supertypes(new DefaultParameterizedType(null, java.util.List.class, String.class)));
+  }
+
+  @Test
+  final void testFilteredSupertypes() {
+    final Type listString = new DefaultParameterizedType(null, java.util.List.class, String.class);
+    final Collection<Type> all = JavaTypes.supertypes(listString);
+    for (int i = 0; i < 10; i++) {
+      final int n = i;
+      final Collection<Type> filtered = JavaTypes.supertypes(listString, t -> n >= 0 && t instanceof ParameterizedType);
+      final List<Type> expected = new ArrayList<>();
+      for (final Type t : all) {
+        if (t instanceof ParameterizedType) {
+          expected.add(t);
+        }
+      }
+      assertEquals(expected, new ArrayList<>(filtered));
+      assertNotSame(filtered, JavaTypes.supertypes(listString, t -> n >= 0 && t instanceof ParameterizedType));
+    }
+  }
+
   @Test
   final void testNumberIsSupertypeOfInteger() {
     assertTrue(JavaTypes.supertype(Number.class, Integer.class));
@@ -178,6 +216,49 @@ final class TestJavaTypes {
     assertFalse(JavaTypes.supertype(p, Integer.class));
   }
 
+  @Test
+  final void testPrunedSupertypeSearch() throws ReflectiveOperationException {
+    final ParameterizedType arrayListOfString = new DefaultParameterizedType(null, ArrayList.class, String.class);
+    assertTrue(JavaTypes.supertype(new DefaultParameterizedType(null, Iterable.class, String.class), arrayListOfString));
+    assertTrue(JavaTypes.supertype(new DefaultParameterizedType(null, Comparable.class, Integer.class), Integer.class));
+    assertTrue(JavaTypes.supertype(Object.class, arrayListOfString));
+    assertFalse(JavaTypes.supertype(new DefaultParameterizedType(null, Iterable.class, Integer.class), arrayListOfString));
+    assertFalse(JavaTypes.supertype(new DefaultParameterizedType(null, Comparable.class, String.class), arrayListOfString));
+    assertFalse(JavaTypes.supertype(Runnable.class, arrayListOfString));
+    // U's erasure is Number, but U is a subtype of Runnable by way of
+    // T's second bound.
+    final Type u = TestJavaTypes.class.getDeclaredMethod("typeVariables").getTypeParameters()[1];
+    assertTrue(JavaTypes.supertype(Runnable.class, u));
+    assertTrue(JavaTypes.supertype(Number.class, u));
+    assertFalse(JavaTypes.supertype(String.class, u));
+  }
+
+  private static final <T extends Number & Runnable, U extends T> void typeVariables() {
+
+  }
+
+  @Test
+  final void testPrewarm() {
+    final ClassLoader cl = TestJavaTypes.class.getClassLoader();
+    final PrewarmStatistics stats =
+      JavaTypes.prewarm(cl, List.of("java.util.ArrayList", "java.util.HashMap", "com.example.Nope", "java.util.ArrayList"));
+    assertEquals(3, stats.classes());
+    assertEquals(2, stats.loaded());
+    assertEquals(Set.of("com.example.Nope"), stats.failures().keySet());
+    assertTrue(stats.failures().get("com.example.Nope") instanceof ClassNotFoundException);
+    assertTrue(stats.supertypes() > 0L);
+    assertEquals(JavaTypes.supertypes(ArrayList.class).size() + JavaTypes.supertypes(HashMap.class).size(), stats.supertypes());
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final PrewarmStatistics asyncStats = JavaTypes.prewarm(cl, List.of("java.util.ArrayList"), executor).join();
+      assertEquals(1, asyncStats.loaded());
+      assertTrue(asyncStats.failures().isEmpty());
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(0, JavaTypes.prewarm(cl, List.of()).classes());
+  }
+
   // @Test
   final void testCompilation() {
     final Object m = new HashMap<String, String>();
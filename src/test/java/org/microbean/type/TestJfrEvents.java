@@ -0,0 +1,90 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.time.Duration;
+
+import java.util.List;
+
+import jdk.jfr.Recording;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+
+import org.microbean.type.Type.CovariantSemantics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestJfrEvents {
+
+  private TestJfrEvents() {
+    super();
+  }
+
+  @Test
+  final void testEvents() throws Exception {
+    final Path file = Files.createTempFile("TestJfrEvents", ".jfr");
+    try {
+      try (final Recording recording = new Recording()) {
+        recording.enable("org.microbean.type.Assignability").withThreshold(Duration.ZERO);
+        recording.enable("org.microbean.type.Supertypes").withThreshold(Duration.ZERO);
+        recording.start();
+        assertTrue(CovariantSemantics.INSTANCE.assignable(new JavaType.Token<List<? extends Number>>() {}.type(),
+                                                          new JavaType.Token<List<Integer>>() {}.type()));
+        JavaType.of(new JavaType.Token<List<Integer>>() {}.type()).supertypes();
+        recording.stop();
+        recording.dump(file);
+      }
+      boolean sawTopLevelAssignability = false;
+      boolean sawNestedAssignability = false;
+      boolean sawSupertypes = false;
+      for (final RecordedEvent e : RecordingFile.readAllEvents(file)) {
+        switch (e.getEventType().getName()) {
+        case "org.microbean.type.Assignability":
+          if (e.getInt("depth") == 0) {
+            assertEquals("java.util.List<? extends java.lang.Number>", e.getString("receiverType"));
+            assertEquals("java.util.List<java.lang.Integer>", e.getString("payloadType"));
+            assertEquals(CovariantSemantics.class.getName(), e.getClass("semantics").getName());
+            assertTrue(e.getBoolean("assignable"));
+            sawTopLevelAssignability = true;
+          } else {
+            sawNestedAssignability = true;
+          }
+          break;
+        case "org.microbean.type.Supertypes":
+          assertTrue(e.getInt("supertypes") > 0);
+          sawSupertypes = true;
+          break;
+        default:
+          break;
+        }
+      }
+      assertTrue(sawTopLevelAssignability);
+      assertTrue(sawNestedAssignability);
+      assertTrue(sawSupertypes);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+}
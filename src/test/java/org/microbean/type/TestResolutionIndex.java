@@ -0,0 +1,86 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.microbean.type.JavaType.Token;
+import org.microbean.type.Type.CdiSemantics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Deprecated
+final class TestResolutionIndex {
+
+  private TestResolutionIndex() {
+    super();
+  }
+
+  @Test
+  final void testResolve() {
+    final ResolutionIndex<String> index = new ResolutionIndex<>();
+    final Map<String, JavaTypeSet> registrations = new LinkedHashMap<>();
+    registrations.put("integer", JavaTypeSet.ofSupertypes(Integer.class));
+    registrations.put("string", JavaTypeSet.ofSupertypes(String.class));
+    registrations.put("listOfString", JavaTypeSet.ofSupertypes(new Token<ArrayList<String>>() {}.type()));
+    index.registerAll(registrations);
+    index.register("object", JavaTypeSet.of(Object.class));
+    assertEquals(4, index.size());
+    assertEquals(List.of("integer"), index.resolve(Number.class));
+    assertEquals(List.of("integer"), index.resolve(int.class));
+    assertEquals(List.of("integer", "string", "listOfString"), index.resolve(Serializable.class));
+    assertEquals(List.of("listOfString"), index.resolve(new Token<List<String>>() {}.type()));
+    assertTrue(index.resolve(new Token<List<Integer>>() {}.type()).isEmpty());
+    assertTrue(index.resolve(Thread.class).isEmpty());
+    assertEquals(4, index.resolve(Object.class).size());
+  }
+
+  @Test
+  final void testResolveAgreesWithAssignable() {
+    final ResolutionIndex<JavaTypeSet> index = new ResolutionIndex<>();
+    final List<java.lang.reflect.Type> types =
+      List.of(Integer.class, String.class, Number.class, Comparable.class,
+              new Token<Comparable<Integer>>() {}.type(),
+              new Token<List<? extends Number>>() {}.type(),
+              new Token<ArrayList<Integer>>() {}.type());
+    for (final java.lang.reflect.Type type : types) {
+      index.register(JavaTypeSet.ofSupertypes(type), JavaTypeSet.ofSupertypes(type));
+    }
+    for (final java.lang.reflect.Type required : types) {
+      final List<JavaTypeSet> expected = new ArrayList<>();
+      for (final java.lang.reflect.Type type : types) {
+        final JavaTypeSet beanTypes = JavaTypeSet.ofSupertypes(type);
+        for (final java.lang.reflect.Type beanType : beanTypes) {
+          if (CdiSemantics.INSTANCE.assignable(required, beanType)) {
+            expected.add(beanTypes);
+            break;
+          }
+        }
+      }
+      assertEquals(expected, index.resolve(required), required.toString());
+    }
+  }
+
+}
@@ -0,0 +1,192 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.nio.file.Path;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.junit.jupiter.api.Test;
+
+import org.microbean.type.JavaType.Token;
+import org.microbean.type.Type.CovariantSemantics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestSignatureType {
+
+  private static boolean initialized;
+
+  private TestSignatureType() {
+    super();
+  }
+
+  @Test
+  final void testSupertypesMatchReflection() throws Exception {
+    try (final ClassPath classPath = classPath()) {
+      assertSupertypesMatch(JavaType.of(String.class), classPath.type("java.lang.String"));
+      assertSupertypesMatch(JavaType.of(HashMap.class), classPath.type("java.util.HashMap"));
+      assertSupertypesMatch(JavaType.of(Sub.class), classPath.type(Sub.class.getName()));
+      assertSupertypesMatch(JavaType.of(new Token<ArrayList<String>>() {}),
+                            classPath.parse("Ljava/util/ArrayList<Ljava/lang/String;>;"));
+      assertSupertypesMatch(JavaType.of(String[].class), classPath.type("[Ljava.lang.String;"));
+      assertSupertypesMatch(JavaType.of(int[].class), classPath.type("[I"));
+      assertSupertypesMatch(JavaType.of(Runnable.class), classPath.type("java.lang.Runnable"));
+      assertSupertypesMatch(JavaType.of(Integer.class), classPath.type("java.lang.Integer"));
+      assertSupertypesMatch(JavaType.of(new Token<List<String>>() {}),
+                            classPath.parse("Ljava/util/List<Ljava/lang/String;>;"));
+    }
+  }
+
+  @Test
+  final void testInterfaceDirectSupertypes() throws Exception {
+    try (final ClassPath classPath = classPath()) {
+      assertDirectSupertypesMatch(Runnable.class, classPath.type("java.lang.Runnable"));
+      assertDirectSupertypesMatch(List.class, classPath.type("java.util.List"));
+      assertDirectSupertypesMatch(new Token<List<String>>() {}.type(), classPath.parse("Ljava/util/List<Ljava/lang/String;>;"));
+      assertDirectSupertypesMatch(Comparable.class, classPath.type("java.lang.Comparable"));
+      assertEquals(List.of(classPath.type("java.lang.Object")), classPath.type("java.lang.Runnable").directSupertypes());
+    }
+  }
+
+  @Test
+  final void testNoClassLoading() throws Exception {
+    try (final ClassPath classPath = classPath()) {
+      final SignatureType t = classPath.type(Sub.class.getName());
+      assertTrue(t.supertypes().contains(classPath.parse("Ljava/util/List<Ljava/lang/Integer;>;")));
+      final SignatureType u = classPath.type(TestSignatureType.class.getName() + "$Uninitialized");
+      assertTrue(u.supertypes().contains(classPath.type("java.lang.Runnable")));
+      assertFalse(initialized);
+    }
+  }
+
+  @Test
+  final void testSemantics() throws Exception {
+    try (final ClassPath classPath = classPath()) {
+      final CovariantSemantics semantics = new CovariantSemantics();
+      final SignatureType receiver = classPath.parse("Ljava/util/List<+Ljava/lang/Number;>;");
+      assertTrue(semantics.assignable(receiver, classPath.parse("Ljava/util/ArrayList<Ljava/lang/Integer;>;")));
+      assertTrue(semantics.assignable(receiver, classPath.type(Sub.class.getName())));
+      assertFalse(semantics.assignable(receiver, classPath.parse("Ljava/util/ArrayList<Ljava/lang/String;>;")));
+      assertTrue(semantics.assignable(classPath.type("java.lang.Object"), classPath.type("java.lang.Runnable")));
+      assertFalse(semantics.assignable(classPath.type("java.lang.Runnable"), classPath.type("java.lang.Object")));
+    }
+  }
+
+  @Test
+  final void testTypeVariables() throws Exception {
+    try (final ClassPath classPath = classPath()) {
+      final SignatureType e = classPath.type("java.lang.Enum").typeParameters().get(0);
+      assertTrue(e.typeVariable());
+      assertEquals("E", e.name());
+      assertEquals("Tjava/lang/Enum.E;", e.object());
+      assertEquals(classPath.type("java.lang.Enum"), e.owner());
+      assertEquals(List.of(classPath.parse("Ljava/lang/Enum<Tjava/lang/Enum.E;>;")), e.upperBounds());
+      assertEquals(e.hashCode(), classPath.parse("Tjava/lang/Enum.E;").hashCode());
+      assertSame(Enum.class.getTypeParameters()[0], e.load(null));
+      assertThrows(IllegalArgumentException.class, () -> classPath.parse("TE;"));
+    }
+  }
+
+  @Test
+  final void testNamesAndKinds() throws Exception {
+    try (final ClassPath classPath = classPath()) {
+      assertEquals("int", classPath.type("int").name());
+      assertSame(int.class, classPath.type("int").load(null));
+      assertEquals("[Ljava.lang.String;", classPath.type("[Ljava.lang.String;").name());
+      assertEquals(Type.Kind.CLASS, classPath.type("[Ljava.lang.String;").kind());
+      final SignatureType genericArray = classPath.parse("[Tjava/util/List.E;");
+      assertNull(genericArray.name());
+      assertEquals(Type.Kind.GENERIC_ARRAY_TYPE, genericArray.kind());
+      assertEquals(Type.Kind.PARAMETERIZED_TYPE, classPath.parse("Ljava/util/List<*>;").kind());
+      assertEquals(Type.Kind.LOWER_BOUNDED_WILDCARD, classPath.parse("-Ljava/lang/Integer;").kind());
+      assertEquals(classPath.type("java.util.Map"), classPath.type("java.util.Map$Entry").owner());
+      assertTrue(classPath.type("java.util.Map$Entry").interfaceType());
+      assertTrue(classPath.names().contains(Sub.class.getName()));
+      assertTrue(classPath.contains("java.lang.Object"));
+      assertFalse(classPath.contains("com.example.Nonexistent"));
+      assertThrows(TypeNotPresentException.class, () -> classPath.type("com.example.Nonexistent"));
+      final java.lang.reflect.Type loaded = classPath.parse("Ljava/util/Map<Ljava/lang/String;+Ljava/lang/Number;>;").load(null);
+      assertTrue(JavaTypes.equals(new Token<Map<String, ? extends Number>>() {}.type(), loaded));
+    }
+  }
+
+  private static final ClassPath classPath() throws Exception {
+    // The directory containing this test's own class files.
+    return ClassPath.of(Path.of(TestSignatureType.class.getProtectionDomain().getCodeSource().getLocation().toURI()));
+  }
+
+  private static final void assertSupertypesMatch(final JavaType expected, final SignatureType actual) throws ClassNotFoundException {
+    final ClassLoader cl = TestSignatureType.class.getClassLoader();
+    // JavaTypes#supertypes(Type) contains no duplicates.
+    final Collection<java.lang.reflect.Type> expectedSupertypes = JavaTypes.supertypes(expected.object());
+    final List<java.lang.reflect.Type> actualSupertypes = new ArrayList<>();
+    for (final Type<String> s : actual.supertypes()) {
+      actualSupertypes.add(s.load(cl));
+    }
+    assertEquals(expectedSupertypes.size(), actualSupertypes.size(), JavaTypes.toString(expected.object()));
+    assertEquals(actual.supertypes().size(), new HashSet<>(actual.supertypes()).size(), actual.object());
+    for (final java.lang.reflect.Type a : actualSupertypes) {
+      assertTrue(expectedSupertypes.stream().anyMatch(e -> JavaTypes.equals(e, a)), JavaTypes.toString(a));
+    }
+    for (final java.lang.reflect.Type e : expectedSupertypes) {
+      assertTrue(actualSupertypes.stream().anyMatch(a -> JavaTypes.equals(e, a)), JavaTypes.toString(e));
+    }
+  }
+
+  private static final void assertDirectSupertypesMatch(final java.lang.reflect.Type expected, final SignatureType actual) throws ClassNotFoundException {
+    final ClassLoader cl = TestSignatureType.class.getClassLoader();
+    final Collection<? extends java.lang.reflect.Type> expectedDirectSupertypes = JavaTypes.directSupertypes(expected);
+    final List<? extends Type<String>> actualDirectSupertypes = actual.directSupertypes();
+    assertEquals(expectedDirectSupertypes.size(), actualDirectSupertypes.size(), actual.object());
+    final Iterator<? extends java.lang.reflect.Type> i = expectedDirectSupertypes.iterator();
+    for (final Type<String> a : actualDirectSupertypes) {
+      assertTrue(JavaTypes.equals(i.next(), a.load(cl)), a.object());
+    }
+  }
+
+  private static abstract class Sub extends AbstractList<Integer> implements RandomAccess {
+
+  }
+
+  private static final class Uninitialized implements Runnable {
+
+    static {
+      initialized = true;
+    }
+
+    @Override
+    public final void run() {
+
+    }
+
+  }
+
+}
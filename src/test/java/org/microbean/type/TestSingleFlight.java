@@ -0,0 +1,118 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class TestSingleFlight {
+
+  private static final VarHandle VALUE;
+
+  static {
+    try {
+      VALUE = MethodHandles.lookup().findVarHandle(Holder.class, "value", Object.class);
+    } catch (final NoSuchFieldException | IllegalAccessException reflectiveOperationException) {
+      throw (Error)new ExceptionInInitializerError(reflectiveOperationException.getMessage()).initCause(reflectiveOperationException);
+    }
+  }
+
+  private TestSingleFlight() {
+    super();
+  }
+
+  @Test
+  final void testComputesOnceUnderContention() throws Exception {
+    final Holder holder = new Holder();
+    final AtomicInteger computations = new AtomicInteger();
+    final int threads = 16;
+    final CountDownLatch start = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<Object>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(executor.submit((Callable<Object>)() -> {
+              start.await();
+              return SingleFlight.get(holder, VALUE, () -> {
+                  computations.incrementAndGet();
+                  try {
+                    Thread.sleep(50L);
+                  } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  }
+                  return new Object();
+                });
+            }));
+      }
+      start.countDown();
+      final Object value = futures.get(0).get();
+      for (final Future<Object> future : futures) {
+        assertSame(value, future.get());
+      }
+      assertSame(value, holder.value);
+      assertEquals(1, computations.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  final void testFailureIsNotPublished() {
+    final Holder holder = new Holder();
+    assertThrows(IllegalStateException.class, () -> SingleFlight.get(holder, VALUE, () -> {
+          throw new IllegalStateException();
+        }));
+    assertNull(holder.value);
+    assertEquals("computed", SingleFlight.get(holder, VALUE, () -> "computed"));
+  }
+
+  @Test
+  final void testReentrantComputation() {
+    final Holder holder = new Holder();
+    assertEquals("outer", SingleFlight.get(holder, VALUE, () -> {
+          // Re-entering the same computation must not deadlock.
+          assertEquals("inner", SingleFlight.get(holder, VALUE, () -> "inner"));
+          return "outer";
+        }));
+    assertEquals("outer", holder.value);
+  }
+
+  private static final class Holder {
+
+    private volatile Object value;
+
+  }
+
+}
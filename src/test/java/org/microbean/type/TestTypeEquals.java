@@ -16,7 +16,10 @@
  */
 package org.microbean.type;
 
+import java.lang.reflect.ParameterizedType;
+
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -42,6 +45,33 @@ final class TestTypeEquals {
     assertFalse(Type.equals(t1, t2));
   }
 
+  @Test
+  final void testHashCodeIsStructural() {
+    final Type<?> t1 = JavaType.of(new DefaultParameterizedType(null, List.class, String.class));
+    final Type<?> t2 = JavaType.of(new JavaType.Token<List<String>>() {}.type());
+    assertEquals(Type.hashCode(t1), t1.hashCode());
+    assertEquals(t1.hashCode(), t1.hashCode());
+    assertEquals(t1.hashCode(), t2.hashCode());
+  }
+
+  @Test
+  final void testMixedImplementationEquality() {
+    final java.lang.reflect.Type jdk = new JavaType.Token<Map<? extends Number, List<String>>>() {}.type();
+    final java.lang.reflect.Type library =
+      new DefaultParameterizedType(null,
+                                   Map.class,
+                                   new UpperBoundedWildcardType(Number.class),
+                                   new DefaultParameterizedType(null, List.class, String.class));
+    assertTrue(JavaTypes.equals(jdk, library));
+    assertTrue(JavaTypes.equals(library, jdk));
+    assertEquals(JavaTypes.hashCode(jdk), JavaTypes.hashCode(library));
+    assertEquals(JavaTypes.toString(jdk), JavaTypes.toString(library));
+    // The public accessors still return defensive copies.
+    final java.lang.reflect.Type[] actualTypeArguments = ((ParameterizedType)library).getActualTypeArguments();
+    actualTypeArguments[0] = Object.class;
+    assertTrue(JavaTypes.equals(jdk, library));
+  }
+
   @Test
   final void testCustomSupertyped() {
     Type<?> t1 = JavaType.ofExactly(true, List.of(Number.class, new DefaultParameterizedType(null, Comparable.class, Integer.class)));
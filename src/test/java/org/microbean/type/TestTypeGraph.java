@@ -0,0 +1,134 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.io.Serializable;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.microbean.type.JavaType.Token;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestTypeGraph {
+
+  private TestTypeGraph() {
+    super();
+  }
+
+  @Test
+  final void testKnownSupertypes() {
+    final TypeGraph graph = new TypeGraph();
+    final JavaType arrayListString = JavaType.of(new Token<ArrayList<String>>() {}.type());
+    assertTrue(graph.add(arrayListString));
+    assertFalse(graph.add(arrayListString));
+    assertEquals(new HashSet<>(arrayListString.supertypes()), new HashSet<>(graph.knownSupertypes(arrayListString)));
+    assertEquals(new HashSet<>(arrayListString.supertypes()).size(), graph.knownSupertypes(arrayListString).size());
+    assertEquals(new HashSet<>(arrayListString.supertypes()).size(), graph.size());
+    assertEquals(arrayListString, graph.knownSupertypes(arrayListString).get(0));
+    assertEquals(new HashSet<>(arrayListString.directSupertypes()), new HashSet<>(graph.directSupertypes(arrayListString)));
+    assertTrue(graph.knownSupertypes(JavaType.of(Integer.class)).isEmpty());
+  }
+
+  @Test
+  final void testKnownSubtypes() {
+    final TypeGraph graph = new TypeGraph();
+    final JavaType arrayListString = JavaType.of(new Token<ArrayList<String>>() {}.type());
+    final JavaType linkedListString = JavaType.of(new Token<LinkedList<String>>() {}.type());
+    final JavaType collectionString = JavaType.of(new Token<Collection<String>>() {}.type());
+    graph.add(arrayListString);
+    assertEquals(List.of(), graph.directSubtypes(arrayListString));
+    assertEquals(List.of(arrayListString), graph.knownSubtypes(arrayListString));
+    assertTrue(graph.knownSubtypes(collectionString).contains(arrayListString));
+    assertFalse(graph.knownSubtypes(collectionString).contains(linkedListString));
+    // Incremental insertion.
+    graph.add(linkedListString);
+    assertTrue(graph.knownSubtypes(collectionString).contains(arrayListString));
+    assertTrue(graph.knownSubtypes(collectionString).contains(linkedListString));
+    assertEquals(collectionString, graph.knownSubtypes(collectionString).get(0));
+    assertTrue(graph.knownSubtypes(JavaType.of(Serializable.class)).contains(linkedListString));
+    assertFalse(graph.knownSubtypes(JavaType.of(new Token<AbstractList<String>>() {}.type())).contains(collectionString));
+    assertTrue(graph.knownSubtypes(JavaType.of(Integer.class)).isEmpty());
+    for (final Type<?> t : graph.knownSubtypes(JavaType.of(Object.class))) {
+      assertTrue(t.subtypeOf(JavaType.of(Object.class)));
+    }
+    assertEquals(graph.size(), graph.knownSubtypes(JavaType.of(Object.class)).size());
+  }
+
+  @Test
+  final void testSubtype() {
+    final TypeGraph graph = new TypeGraph();
+    final JavaType sub = JavaType.of(new DefaultParameterizedType(null, ArrayList.class, String.class));
+    assertFalse(graph.subtype(sub, sub));
+    graph.add(sub);
+    assertTrue(graph.subtype(sub, sub));
+    assertTrue(graph.subtype(sub, JavaType.of(new Token<AbstractList<String>>() {}.type())));
+    assertTrue(graph.supertype(JavaType.of(Serializable.class), sub));
+    assertFalse(graph.subtype(JavaType.of(Object.class), sub));
+    assertFalse(graph.subtype(sub, JavaType.of(new Token<List<Integer>>() {}.type())));
+    for (final Type<?> supertype : sub.supertypes()) {
+      assertEquals(sub.subtypeOf(supertype), graph.subtype(sub, supertype));
+    }
+  }
+
+  @Test
+  final void testFBoundedTypeVariable() throws ReflectiveOperationException {
+    final TypeGraph graph = new TypeGraph();
+    // T extends Comparable<T>
+    final JavaType t = JavaType.of(TestTypeGraph.class.getDeclaredMethod("fBounded", Comparable.class).getTypeParameters()[0]);
+    // E extends Enum<E>
+    final JavaType e = JavaType.of(Enum.class.getTypeParameters()[0]);
+    assertTrue(graph.add(t));
+    assertTrue(graph.add(e));
+    assertFalse(graph.add(t));
+    final JavaType object = JavaType.of(Object.class);
+    assertTrue(graph.subtype(t, object));
+    assertTrue(graph.subtype(e, JavaType.of(Serializable.class)));
+    assertTrue(graph.knownSubtypes(object).contains(t));
+    assertTrue(graph.knownSubtypes(object).contains(e));
+    assertEquals(t, graph.knownSupertypes(t).get(0));
+    assertTrue(graph.knownSupertypes(t).contains(object));
+  }
+
+  @Test
+  final void testRepeatedQueries() {
+    final TypeGraph graph = new TypeGraph();
+    final JavaType object = JavaType.of(Object.class);
+    for (final Class<?> c : List.of(Integer.class, Long.class, String.class, ArrayList.class, LinkedList.class)) {
+      graph.add(JavaType.of(c));
+      // Earlier traversals must not leave marks that hide later results.
+      for (int i = 0; i < 3; i++) {
+        assertEquals(graph.size(), graph.knownSubtypes(object).size());
+        assertTrue(graph.subtype(JavaType.of(c), object));
+      }
+    }
+  }
+
+  private static final <T extends Comparable<T>> void fBounded(final T t) {
+
+  }
+
+}
@@ -0,0 +1,82 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.io.Serializable;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.microbean.type.JavaType.Token;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestTypeRegistry {
+
+  private TestTypeRegistry() {
+    super();
+  }
+
+  @Test
+  final void testIds() {
+    final TypeRegistry registry = new TypeRegistry();
+    assertEquals(-1, registry.idIfRegistered(JavaType.of(String.class)));
+    final int id = registry.id(JavaType.of(String.class));
+    assertEquals(0, id);
+    assertEquals(id, registry.id(JavaType.of(String.class)));
+    assertEquals(1, registry.id(JavaType.of(Integer.class)));
+    assertEquals(JavaType.of(Integer.class), registry.type(1));
+    assertEquals(2, registry.size());
+  }
+
+  @Test
+  final void testSubtype() {
+    final TypeRegistry registry = new TypeRegistry();
+    final JavaType arrayListString = JavaType.of(new Token<ArrayList<String>>() {}.type());
+    final JavaType sub = JavaType.of(new DefaultParameterizedType(null, ArrayList.class, String.class));
+    assertTrue(registry.subtype(arrayListString, arrayListString));
+    assertTrue(registry.subtype(sub, JavaType.of(new Token<AbstractList<String>>() {}.type())));
+    assertTrue(registry.subtype(sub, JavaType.of(Serializable.class)));
+    assertTrue(registry.supertype(JavaType.of(Object.class), sub));
+    assertFalse(registry.subtype(sub, JavaType.of(new Token<List<Integer>>() {}.type())));
+    assertFalse(registry.subtype(JavaType.of(Object.class), sub));
+    for (final org.microbean.type.Type<?> supertype : sub.supertypes()) {
+      assertEquals(sub.subtypeOf(supertype), registry.subtype(sub, supertype));
+    }
+  }
+
+  @Test
+  final void testFBoundedTypeVariable() throws ReflectiveOperationException {
+    final TypeRegistry registry = new TypeRegistry();
+    // T extends Comparable<T>
+    final JavaType t = JavaType.of(TestTypeRegistry.class.getDeclaredMethod("fBounded", Comparable.class).getTypeParameters()[0]);
+    final int id = registry.id(t);
+    assertEquals(id, registry.id(JavaType.of(TestTypeRegistry.class.getDeclaredMethod("fBounded", Comparable.class).getTypeParameters()[0])));
+    assertTrue(registry.subtype(t, JavaType.of(Object.class)));
+    assertFalse(registry.subtype(t, JavaType.of(Number.class)));
+  }
+
+  private static final <T extends Comparable<T>> void fBounded(final T t) {
+
+  }
+
+}
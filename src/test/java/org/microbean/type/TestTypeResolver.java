@@ -0,0 +1,92 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2022 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.  See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.microbean.type;
+
+import java.lang.reflect.TypeVariable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestTypeResolver {
+
+  private TestTypeResolver() {
+    super();
+  }
+
+  @Test
+  final void testResolveFieldTypes() throws ReflectiveOperationException {
+    final TypeResolver resolver = TypeResolver.of(Bar.class);
+    assertSame(String.class, resolver.resolve(Foo.class.getDeclaredField("t")));
+    assertTrue(JavaTypes.equals(new DefaultParameterizedType(null, List.class, String.class),
+                                resolver.resolve(Foo.class.getDeclaredField("list"))));
+    assertSame(String[].class, resolver.resolve(Foo.class.getDeclaredField("array")));
+    assertTrue(JavaTypes.equals(new JavaType.Token<List<? extends String>>() {}.type(),
+                                resolver.resolve(Foo.class.getDeclaredField("wildcard"))));
+    // Types without bound type variables are returned as they are.
+    final java.lang.reflect.Type listOfInteger = new JavaType.Token<List<Integer>>() {}.type();
+    assertSame(listOfInteger, resolver.resolve(listOfInteger));
+  }
+
+  @Test
+  final void testBindings() {
+    final java.lang.reflect.Type arrayListOfInteger = new JavaType.Token<ArrayList<Integer>>() {}.type();
+    final TypeResolver resolver = TypeResolver.of(arrayListOfInteger);
+    assertSame(Integer.class, resolver.binding(Collection.class.getTypeParameters()[0]));
+    assertSame(Integer.class, resolver.binding(Iterable.class.getTypeParameters()[0]));
+    assertSame(Integer.class, TypeResolver.resolve(Iterable.class.getTypeParameters()[0], arrayListOfInteger));
+    // A Class's own type parameters are not bound...
+    final TypeVariable<?> e = ArrayList.class.getTypeParameters()[0];
+    assertNull(TypeResolver.of(ArrayList.class).binding(e));
+    // ...but its ancestors' are bound to them.
+    assertSame(e, TypeResolver.of(ArrayList.class).binding(List.class.getTypeParameters()[0]));
+    // Resolvers are cached by structural equality.
+    assertSame(resolver, TypeResolver.of(new DefaultParameterizedType(null, ArrayList.class, Integer.class)));
+  }
+
+  @Test
+  final void testDirectSupertypesSubstitution() {
+    final java.lang.reflect.Type subOfString = new DefaultParameterizedType(TestTypeResolver.class, Sub.class, String.class);
+    final java.lang.reflect.Type expected = new JavaType.Token<Function<String, List<String>>>() {}.type();
+    assertTrue(JavaTypes.supertypes(subOfString).contains(expected));
+  }
+
+  private static class Foo<T> {
+
+    T t;
+
+    List<T> list;
+
+    T[] array;
+
+    List<? extends T> wildcard;
+
+  }
+
+  private static final class Bar extends Foo<String> {}
+
+  private static interface Sub<X> extends Function<X, List<X>> {}
+
+}